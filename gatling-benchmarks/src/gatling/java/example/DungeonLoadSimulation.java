@@ -0,0 +1,181 @@
+package example;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+import io.gatling.javaapi.core.*;
+import io.gatling.javaapi.http.*;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+/**
+ * Load model for {@code POST /dungeon/solve} against the docker-compose stack.
+ *
+ * <p>Every setting can be given as a system property ({@code -DrepeatRatio=0.5}) or as an
+ * environment variable with a {@code DUNGEON_} prefix ({@code DUNGEON_REPEAT_RATIO=0.5}):
+ *
+ * <ul>
+ *   <li>{@code baseUrl} - target, defaults to the HAProxy front end on port 80
+ *   <li>{@code sizes} - grid side lengths with relative weights, {@code side:weight,...}
+ *   <li>{@code repeatRatio} - share of requests drawn from a fixed hot set, which drives the
+ *       cache hit rate; the rest are freshly generated grids
+ *   <li>{@code hotSetSize} - number of distinct grids in the hot set
+ *   <li>{@code profile} - {@code open} (arrival rate) or {@code closed} (concurrent users)
+ *   <li>{@code usersPerSec}, {@code concurrentUsers}, {@code rampSeconds}, {@code durationSeconds}
+ *   <li>{@code p95Millis}, {@code p99Millis}, {@code maxErrorPercent} - assertions
+ * </ul>
+ */
+public class DungeonLoadSimulation extends Simulation {
+
+  private static final int MAX_SIDE = 2000;
+
+  private static final String BASE_URL = setting("baseUrl", "http://localhost:80");
+  private static final List<SizeWeight> SIZES =
+      parseSizes(setting("sizes", "3:40,50:30,200:20,1000:8,2000:2"));
+  private static final double REPEAT_RATIO = Double.parseDouble(setting("repeatRatio", "0.8"));
+  private static final int HOT_SET_SIZE = Integer.parseInt(setting("hotSetSize", "200"));
+  private static final String PROFILE = setting("profile", "open").toLowerCase(Locale.ROOT);
+  private static final double USERS_PER_SEC = Double.parseDouble(setting("usersPerSec", "20"));
+  private static final int CONCURRENT_USERS = Integer.parseInt(setting("concurrentUsers", "50"));
+  private static final Duration RAMP =
+      Duration.ofSeconds(Long.parseLong(setting("rampSeconds", "30")));
+  private static final Duration DURATION =
+      Duration.ofSeconds(Long.parseLong(setting("durationSeconds", "120")));
+  private static final int P95_MILLIS = Integer.parseInt(setting("p95Millis", "1000"));
+  private static final int P99_MILLIS = Integer.parseInt(setting("p99Millis", "3000"));
+  private static final double MAX_ERROR_PERCENT =
+      Double.parseDouble(setting("maxErrorPercent", "1.0"));
+
+  // Hot grids are rendered once and reused so repeated requests are byte-identical.
+  private final Map<Integer, Grid> hotGrids = new ConcurrentHashMap<>();
+
+  private final Iterator<Map<String, Object>> grids = Stream.generate(this::nextGrid).iterator();
+
+  HttpProtocolBuilder httpProtocol =
+      http.baseUrl(BASE_URL).acceptHeader("application/json").contentTypeHeader("application/json");
+
+  ScenarioBuilder scenario =
+      scenario("Dungeon solve mix")
+          .feed(grids)
+          .exec(
+              http(session -> "solve " + session.getString("size") + " " + session.getString("kind"))
+                  .post("/dungeon/solve")
+                  .body(StringBody(session -> session.getString("grid")))
+                  .check(status().is(200), jsonPath("$.minimumHP").exists()));
+
+  {
+    PopulationBuilder population =
+        switch (PROFILE) {
+          case "open" ->
+              scenario.injectOpen(
+                  rampUsersPerSec(1).to(USERS_PER_SEC).during(RAMP),
+                  constantUsersPerSec(USERS_PER_SEC).during(DURATION));
+          case "closed" ->
+              scenario.injectClosed(
+                  rampConcurrentUsers(1).to(CONCURRENT_USERS).during(RAMP),
+                  constantConcurrentUsers(CONCURRENT_USERS).during(DURATION));
+          default ->
+              throw new IllegalArgumentException(
+                  "profile must be 'open' or 'closed', got '" + PROFILE + "'");
+        };
+
+    setUp(population)
+        .protocols(httpProtocol)
+        .assertions(
+            global().responseTime().percentile(95.0).lt(P95_MILLIS),
+            global().responseTime().percentile(99.0).lt(P99_MILLIS),
+            global().failedRequests().percent().lt(MAX_ERROR_PERCENT));
+  }
+
+  private Map<String, Object> nextGrid() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Grid grid;
+    String kind;
+    if (random.nextDouble() < REPEAT_RATIO) {
+      grid = hotGrids.computeIfAbsent(random.nextInt(HOT_SET_SIZE), DungeonLoadSimulation::hotGrid);
+      kind = "repeat";
+    } else {
+      grid = Grid.random(pickSide(random), random);
+      kind = "fresh";
+    }
+    return Map.of("grid", grid.json(), "size", grid.side() + "x" + grid.side(), "kind", kind);
+  }
+
+  private static Grid hotGrid(int index) {
+    // Seeded by index so the hot set is the same across runs and across load generators.
+    SplittableRandom random = new SplittableRandom(index);
+    return Grid.random(pickSide(random), random);
+  }
+
+  private static int pickSide(RandomGenerator random) {
+    int total = SIZES.stream().mapToInt(SizeWeight::weight).sum();
+    int roll = random.nextInt(total);
+    for (SizeWeight size : SIZES) {
+      roll -= size.weight();
+      if (roll < 0) {
+        return size.side();
+      }
+    }
+    return SIZES.get(SIZES.size() - 1).side();
+  }
+
+  private static List<SizeWeight> parseSizes(String spec) {
+    List<SizeWeight> sizes = new ArrayList<>();
+    for (String entry : spec.split(",")) {
+      String[] parts = entry.trim().split(":");
+      int side = Integer.parseInt(parts[0].trim());
+      int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+      if (side < 1 || side > MAX_SIDE || weight < 1) {
+        throw new IllegalArgumentException("Invalid size entry '" + entry + "'");
+      }
+      sizes.add(new SizeWeight(side, weight));
+    }
+    if (sizes.isEmpty()) {
+      throw new IllegalArgumentException("sizes must not be empty");
+    }
+    return List.copyOf(sizes);
+  }
+
+  private static String setting(String name, String defaultValue) {
+    String value = System.getProperty(name);
+    if (value == null) {
+      String env = name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+      value = System.getenv("DUNGEON_" + env);
+    }
+    return value == null || value.isBlank() ? defaultValue : value;
+  }
+
+  private record SizeWeight(int side, int weight) {}
+
+  private record Grid(int side, String json) {
+
+    static Grid random(int side, RandomGenerator random) {
+      StringBuilder json = new StringBuilder(side * side * 4 + side * 2 + 2);
+      json.append('[');
+      for (int r = 0; r < side; r++) {
+        if (r > 0) {
+          json.append(',');
+        }
+        json.append('[');
+        for (int c = 0; c < side; c++) {
+          if (c > 0) {
+            json.append(',');
+          }
+          // Mostly small damage with occasional healing, similar to the README example.
+          json.append(random.nextInt(-10, 6));
+        }
+        json.append(']');
+      }
+      return new Grid(side, json.append(']').toString());
+    }
+  }
+}
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Restart-to-ready time of one docker-compose replica. Each round stops the service, starts it
+# again and reports how long it takes until the first successful /dungeon/solve and until
+# /actuator/health reports UP. Requests are sent from inside the container, so times include
+# about one `docker compose exec` round trip of polling overhead.
+#
+# Usage: scripts/startup-benchmark.sh [service] [rounds]
+#   APP_BUILD_TARGET=fast-start docker compose up -d --build   # or runtime, the default image
+#   scripts/startup-benchmark.sh app1 5
+set -euo pipefail
+
+SERVICE=${1:-app1}
+ROUNDS=${2:-5}
+GRID='[[1,-3,3],[0,-2,0],[-3,-3,-3]]'
+PORT=$(docker compose exec -T "$SERVICE" printenv SERVER_PORT 2>/dev/null || echo 8081)
+
+now_ms() {
+    date +%s%3N
+}
+
+solved() {
+    docker compose exec -T "$SERVICE" curl -fsS -o /dev/null -X POST -H 'Content-Type: application/json' \
+        -d "$GRID" "http://localhost:$PORT/dungeon/solve" >/dev/null 2>&1
+}
+
+healthy() {
+    docker compose exec -T "$SERVICE" curl -fsS "http://localhost:$PORT/actuator/health" 2>/dev/null \
+        | grep -q '"status":"UP"'
+}
+
+median() {
+    printf '%s\n' "$@" | sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+solve_times=()
+ready_times=()
+for round in $(seq "$ROUNDS"); do
+    docker compose stop "$SERVICE" >/dev/null
+    start=$(now_ms)
+    docker compose start "$SERVICE" >/dev/null
+    until solved; do sleep 0.05; done
+    first_solve=$(( $(now_ms) - start ))
+    until healthy; do sleep 0.05; done
+    ready=$(( $(now_ms) - start ))
+    solve_times+=("$first_solve")
+    ready_times+=("$ready")
+    echo "round $round: first solve ${first_solve} ms, healthy ${ready} ms"
+done
+
+echo "$SERVICE median over $ROUNDS rounds: first solve $(median "${solve_times[@]}") ms, healthy $(median "${ready_times[@]}") ms"
@@ -0,0 +1,42 @@
+#!/bin/sh
+# Trains the AppCDS archive of the fast-start image. Starts the extracted app once with
+# -XX:ArchiveClassesAtExit, sends it the requests a restarted replica serves first so their
+# classes are loaded, then stops it; the JVM writes the archive on exit. No database is needed:
+# store lookups fail over to solving, as they do in production when Postgres is down.
+#
+# Usage: train-cds.sh <archive> <java options...>
+# The java options must match the ones the archive is later used with.
+set -eu
+
+ARCHIVE=$1
+shift
+PORT=${SERVER_PORT:-8081}
+BASE_URL="http://localhost:$PORT"
+
+java -XX:ArchiveClassesAtExit="$ARCHIVE" "$@" -jar app.jar --server.port="$PORT" &
+PID=$!
+
+attempts=0
+until curl -fsS -o /dev/null -X POST -H 'Content-Type: application/json' \
+        -d '[[1,-3,3],[0,-2,0],[-3,-3,-3]]' "$BASE_URL/dungeon/solve"; do
+    if ! kill -0 "$PID" 2>/dev/null; then
+        echo "Application exited before answering a solve" >&2
+        exit 1
+    fi
+    attempts=$((attempts + 1))
+    if [ "$attempts" -gt 600 ]; then
+        echo "Application did not answer a solve within 2 minutes" >&2
+        kill "$PID"
+        exit 1
+    fi
+    sleep 0.2
+done
+
+curl -sS -o /dev/null -X POST -H 'Content-Type: application/json' \
+    -d '[[[1,-3,3],[0,-2,0],[-3,-3,-3]],[[-4]]]' "$BASE_URL/dungeon/solve/batch"
+curl -sS -o /dev/null "$BASE_URL/actuator/health"
+curl -sS -o /dev/null "$BASE_URL/actuator/prometheus"
+
+kill -TERM "$PID"
+wait "$PID" || true
+test -s "$ARCHIVE"
@@ -0,0 +1,39 @@
+package com.example.dungeongamekata.benchmark;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic grids for the benchmarks, by total cell count, shape and value profile.
+ */
+final class BenchmarkGrids {
+
+    private static final int ASPECT = 16;
+
+    private BenchmarkGrids() {
+    }
+
+    static DungeonGrid create(int cells, String shape, String values, long seed) {
+        int side = (int) Math.sqrt(cells);
+        int rows = switch (shape) {
+            case "square" -> side;
+            case "tall" -> (int) Math.sqrt((double) cells * ASPECT);
+            case "wide" -> Math.max(1, (int) Math.sqrt((double) cells / ASPECT));
+            default -> throw new IllegalArgumentException("Unknown shape " + shape);
+        };
+        int cols = Math.max(1, cells / rows);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] data = new int[rows * cols];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = switch (values) {
+                case "mixed" -> random.nextInt(-30, 21);
+                case "all-negative" -> random.nextInt(-50, 0);
+                case "all-positive" -> random.nextInt(1, 51);
+                default -> throw new IllegalArgumentException("Unknown value profile " + values);
+            };
+        }
+        return new DungeonGrid(rows, cols, data);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.dungeongamekata.benchmark;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.service.GridDigest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the lookup key: the JSON rendering the service used to key on versus the
+ * SHA-256 digest computed straight over the flat cells.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridKeyBenchmark {
+
+    @Param({"9", "10000", "1000000"})
+    private int cells;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private DungeonGrid grid;
+    private int[][] jaggedGrid;
+
+    @Setup
+    public void setUp() {
+        grid = BenchmarkGrids.create(cells, "square", "mixed", 7);
+        jaggedGrid = grid.toArray();
+    }
+
+    @Benchmark
+    public String jsonKey() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(jaggedGrid);
+    }
+
+    @Benchmark
+    public GridDigest digestKey() {
+        return GridDigest.of(grid);
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.dungeongamekata.benchmark;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.config.DungeonStoreProperties;
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.ModelRun;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.repository.ResultStore;
+import com.example.dungeongamekata.service.DungeonResultCache;
+import com.example.dungeongamekata.service.DungeonResultCodec;
+import com.example.dungeongamekata.service.DungeonService;
+import com.example.dungeongamekata.service.ModelRunWriteBehind;
+import com.example.dungeongamekata.service.SharedResultCache;
+import com.example.dungeongamekata.solver.DpBufferPool;
+import com.example.dungeongamekata.solver.DungeonSolverSelector;
+import com.example.dungeongamekata.solver.LowMemoryDungeonSolver;
+import com.example.dungeongamekata.solver.ScalarDungeonSolver;
+import com.example.dungeongamekata.solver.SimdDungeonSolver;
+import com.example.dungeongamekata.solver.SolverExecutor;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
+import com.example.dungeongamekata.solver.WavefrontDungeonSolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link DungeonService#calculateMinimumHP(DungeonGrid)} against a stubbed
+ * repository, so only in-process costs are measured:
+ * <ul>
+ *   <li>{@code localHit} - served from the L1 cache</li>
+ *   <li>{@code storedHit} - L1 disabled, result parsed from a stored model run</li>
+ *   <li>{@code miss} - L1 disabled and nothing stored, so the grid is solved and persisted</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultCacheBenchmark {
+
+    @Param({"9", "10000", "250000"})
+    private int cells;
+
+    private DungeonGrid grid;
+    private DungeonService cachedService;
+    private DungeonService storedService;
+    private DungeonService uncachedService;
+    private WavefrontDungeonSolver wavefrontSolver;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        grid = BenchmarkGrids.create(cells, "square", "mixed", 11);
+
+        SolverProperties solverProperties = new SolverProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DpBufferPool buffers = new DpBufferPool(solverProperties, meterRegistry);
+        wavefrontSolver = new WavefrontDungeonSolver(buffers, solverProperties, meterRegistry);
+        ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(buffers, meterRegistry);
+        DungeonSolverSelector solvers = new DungeonSolverSelector(scalarSolver, wavefrontSolver,
+                new LowMemoryDungeonSolver(meterRegistry),
+                new SimdDungeonSolver(scalarSolver, buffers, solverProperties, meterRegistry), solverProperties);
+
+        DungeonResponse response = solvers.select(grid, SolveOptions.DEFAULT).solve(grid);
+        ModelRun storedRun = ModelRun.of(new byte[32], objectMapper.writeValueAsString(grid),
+                DungeonResultCodec.encode(response));
+
+        cachedService = service(store(Optional.empty()), true, objectMapper, solvers, solverProperties);
+        cachedService.calculateMinimumHP(grid);
+        storedService = service(store(Optional.of(storedRun)), false, objectMapper, solvers, solverProperties);
+        uncachedService = service(store(Optional.empty()), false, objectMapper, solvers, solverProperties);
+    }
+
+    @TearDown
+    public void tearDown() {
+        wavefrontSolver.shutdown();
+    }
+
+    @Benchmark
+    public DungeonResponse localHit() {
+        return cachedService.calculateMinimumHP(grid);
+    }
+
+    @Benchmark
+    public DungeonResponse storedHit() {
+        return storedService.calculateMinimumHP(grid);
+    }
+
+    @Benchmark
+    public DungeonResponse miss() {
+        return uncachedService.calculateMinimumHP(grid);
+    }
+
+    private static DungeonService service(ResultStore store, boolean localCache, ObjectMapper objectMapper,
+                                          DungeonSolverSelector solvers, SolverProperties solverProperties) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        DungeonCacheProperties cacheProperties = new DungeonCacheProperties();
+        cacheProperties.setEnabled(localCache);
+
+        DungeonStoreProperties storeProperties = new DungeonStoreProperties();
+        storeProperties.getWriteBehind().setEnabled(false);
+        ModelRunWriteBehind writeBehind = new ModelRunWriteBehind(store, objectMapper,
+                storeProperties, meterRegistry);
+
+        return new DungeonService(store, writeBehind, objectMapper,
+                new DungeonResultCache(cacheProperties, meterRegistry), SharedResultCache.NONE, solvers,
+                new SolverExecutor(solverProperties, meterRegistry),
+                new SolverMemoryBudget(solvers.lowMemory(), solverProperties, meterRegistry),
+                solverProperties, new DungeonInputProperties(), meterRegistry);
+    }
+
+    /**
+     * Store whose digest lookups always return {@code storedRun}. Writes are dropped: persistence
+     * cost is a database round trip, outside the scope of this benchmark.
+     */
+    private static ResultStore store(Optional<ModelRun> storedRun) {
+        return new ResultStore() {
+            @Override
+            public Optional<ModelRun> findByInputHash(byte[] inputHash) {
+                return storedRun;
+            }
+
+            @Override
+            public List<ModelRun> findByInputHashIn(Collection<byte[]> inputHashes) {
+                return storedRun.map(List::of).orElse(List.of());
+            }
+
+            @Override
+            public void saveAll(List<ModelRun> runs) {
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.dungeongamekata.benchmark;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.solver.DpBufferPool;
+import com.example.dungeongamekata.solver.ScalarDungeonSolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar solve with and without the DP buffer pool. Run with the GC profiler and compare
+ * {@code gc.alloc.rate.norm}: with warm buffers only the response and its packed path are
+ * allocated, a few hundred bytes instead of the (m+1) x (n+1) table.
+ * <pre>./gradlew jmh -PjmhIncludes=SolverAllocationBenchmark -PjmhProfilers=gc</pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverAllocationBenchmark {
+
+    @Param({"10000", "250000", "1000000"})
+    private int cells;
+
+    @Param({"true", "false"})
+    private boolean pooled;
+
+    private DungeonGrid grid;
+    private ScalarDungeonSolver solver;
+
+    @Setup
+    public void setUp() {
+        grid = BenchmarkGrids.create(cells, "square", "mixed", 42);
+        SolverProperties properties = new SolverProperties();
+        properties.getBuffers().setPooled(pooled);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        solver = new ScalarDungeonSolver(new DpBufferPool(properties, meterRegistry), meterRegistry);
+    }
+
+    @Benchmark
+    public DungeonResponse solve() {
+        return solver.solve(grid);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.dungeongamekata.benchmark;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.solver.DpBufferPool;
+import com.example.dungeongamekata.solver.DungeonSolver;
+import com.example.dungeongamekata.solver.LowMemoryDungeonSolver;
+import com.example.dungeongamekata.solver.ScalarDungeonSolver;
+import com.example.dungeongamekata.solver.SimdDungeonSolver;
+import com.example.dungeongamekata.solver.WavefrontDungeonSolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full solve (DP plus path) per engine, across grid sizes, shapes and value profiles.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int cells;
+
+    @Param({"square", "tall", "wide"})
+    private String shape;
+
+    @Param({"mixed", "all-negative", "all-positive"})
+    private String values;
+
+    @Param({"scalar", "wavefront", "simd", "low-memory"})
+    private String engine;
+
+    private DungeonGrid grid;
+    private DungeonSolver solver;
+    private WavefrontDungeonSolver wavefrontSolver;
+
+    @Setup
+    public void setUp() {
+        grid = BenchmarkGrids.create(cells, shape, values, 42);
+        SolverProperties properties = new SolverProperties();
+        DpBufferPool buffers = new DpBufferPool(properties, new SimpleMeterRegistry());
+        solver = switch (engine) {
+            case "scalar" -> new ScalarDungeonSolver(buffers, new SimpleMeterRegistry());
+            case "wavefront" -> wavefrontSolver = new WavefrontDungeonSolver(buffers, properties, new SimpleMeterRegistry());
+            case "simd" -> new SimdDungeonSolver(new ScalarDungeonSolver(buffers, new SimpleMeterRegistry()), buffers,
+                    properties, new SimpleMeterRegistry());
+            case "low-memory" -> new LowMemoryDungeonSolver(new SimpleMeterRegistry());
+            default -> throw new IllegalArgumentException("Unknown engine " + engine);
+        };
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (wavefrontSolver != null) {
+            wavefrontSolver.shutdown();
+        }
+    }
+
+    @Benchmark
+    public DungeonResponse solve() {
+        return solver.solve(grid);
+    }
+}
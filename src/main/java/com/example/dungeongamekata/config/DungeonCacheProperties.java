@@ -0,0 +1,42 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-process result cache that sits in front of the model_runs table.
+ * The cache is bounded by the total number of grid cells it holds rather than by entry
+ * count, so a handful of huge dungeons cannot crowd out hundreds of small ones.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.cache.local")
+public class DungeonCacheProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Upper bound on the sum of rows x cols over all cached grids. With the key and the
+     * path taking a few bytes per cell, 5M cells stays well below 100 MB of heap.
+     */
+    private long maxCells = 5_000_000;
+
+    private Duration ttl = Duration.ofHours(1);
+
+    private final Warmup warmup = new Warmup();
+
+    /**
+     * Preloads the most recently stored results at startup so a restarted replica does not
+     * send every hot grid back to the database. With {@code gate-readiness} the health endpoint
+     * reports OUT_OF_SERVICE until warm-up finishes or {@code timeout} passes, which keeps the
+     * replica out of the HAProxy rotation meanwhile.
+     */
+    @Data
+    public static class Warmup {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        private Duration timeout = Duration.ofSeconds(30);
+        private boolean gateReadiness = true;
+    }
+}
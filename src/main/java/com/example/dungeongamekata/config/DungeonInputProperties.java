@@ -0,0 +1,25 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Limits applied to submitted dungeons before any solver memory is allocated.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.input")
+public class DungeonInputProperties {
+
+    private long maxCells = 25_000_000;
+
+    private int maxRows = 10_000;
+
+    private int maxCols = 10_000;
+
+    private int maxBatchSize = 1000;
+
+    /**
+     * Total cells over all grids of one batch request.
+     */
+    private long maxBatchCells = 25_000_000;
+}
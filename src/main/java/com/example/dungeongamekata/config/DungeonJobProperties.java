@@ -0,0 +1,43 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for asynchronous solve jobs. Jobs run on their own pool of {@code max-active}
+ * threads, one core each, separate from the interactive solver pool, so a few huge dungeons
+ * cannot starve small synchronous requests. Submissions beyond {@code queue-capacity} waiting
+ * jobs are rejected with 429.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.jobs")
+public class DungeonJobProperties {
+
+    private int maxActive = Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+
+    private int queueCapacity = 16;
+
+    /**
+     * How long a finished job and its result stay available to late subscribers.
+     */
+    private Duration retention = Duration.ofMinutes(10);
+
+    /**
+     * Finished jobs kept at most, oldest dropped first.
+     */
+    private int maxRetained = 100;
+
+    /**
+     * Path cells per {@code path} event.
+     */
+    private int pathChunkSize = 1000;
+
+    private Duration streamTimeout = Duration.ofMinutes(30);
+
+    /**
+     * SSE streams open on one job at a time; further subscriptions are rejected with 429.
+     */
+    private int maxSubscribers = 16;
+}
@@ -0,0 +1,24 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for editor solve sessions, which keep a dungeon's full DP table in memory so that
+ * cell edits only recompute the region they affect. Sessions live only on the replica that
+ * created them and are dropped after {@code idle-timeout} without requests.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.session")
+public class DungeonSessionProperties {
+
+    /**
+     * Upper bound on the sum of rows x cols over all open sessions. A session holds the grid
+     * and its DP table, about 8 bytes per cell, so 10M cells is roughly 80 MB of heap.
+     */
+    private long maxCells = 10_000_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(15);
+}
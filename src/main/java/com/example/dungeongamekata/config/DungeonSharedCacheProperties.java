@@ -0,0 +1,30 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Result cache shared by all replicas, between each replica's local cache and the model_runs
+ * table. {@code memory} keeps it in-process, which only helps a single replica and exists for
+ * tests and local runs; {@code redis} uses the server configured under {@code spring.data.redis}.
+ * Results never change for a given grid, so entries are bounded by {@code ttl} and size only.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.cache.shared")
+public class DungeonSharedCacheProperties {
+
+    public enum Type { NONE, MEMORY, REDIS }
+
+    private Type type = Type.NONE;
+
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * Entry bound for {@code memory}. Redis is bounded by its own {@code maxmemory} policy.
+     */
+    private long maxEntries = 100_000;
+
+    private String keyPrefix = "dungeon:result:";
+}
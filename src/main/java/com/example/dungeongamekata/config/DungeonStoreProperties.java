@@ -0,0 +1,48 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Settings for persisting solved dungeons into model_runs.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.store")
+public class DungeonStoreProperties {
+
+    public enum Type { JPA, JDBC }
+
+    /**
+     * Result lookups and writes: {@code jpa} through the Spring Data repository, {@code jdbc}
+     * with plain statements and no entity lifecycle.
+     */
+    private Type type = Type.JPA;
+
+    /**
+     * Fill input_hash for rows written before digest lookups existed. Run on one replica only.
+     */
+    private boolean backfillHashes = false;
+
+    /**
+     * Convert JSON outputs of older rows into output_bin. Run on one replica only.
+     */
+    private boolean backfillOutputs = false;
+
+    private final WriteBehind writeBehind = new WriteBehind();
+
+    /**
+     * Results are queued and inserted in batches off the request thread. When the queue is
+     * full, by entries or by the grid cells they hold, new results are dropped (they can always
+     * be recomputed) rather than blocking callers.
+     */
+    @Data
+    public static class WriteBehind {
+        private boolean enabled = true;
+        private int queueCapacity = 10_000;
+        private long maxPendingCells = 25_000_000;
+        private int batchSize = 200;
+        private Duration flushInterval = Duration.ofMillis(500);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.dungeongamekata.config;
+
+import com.example.dungeongamekata.repository.JdbcResultStore;
+import com.example.dungeongamekata.repository.JpaResultStore;
+import com.example.dungeongamekata.repository.ModelRunBatchWriter;
+import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.example.dungeongamekata.repository.ResultStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class ResultStoreConfig {
+
+    @Bean
+    public ResultStore resultStore(DungeonStoreProperties properties, ModelRunRepository modelRunRepository,
+                                   ModelRunBatchWriter batchWriter, JdbcTemplate jdbcTemplate) {
+        return switch (properties.getType()) {
+            case JPA -> new JpaResultStore(modelRunRepository, batchWriter);
+            case JDBC -> new JdbcResultStore(jdbcTemplate);
+        };
+    }
+}
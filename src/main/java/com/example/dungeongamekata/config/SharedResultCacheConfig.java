@@ -0,0 +1,23 @@
+package com.example.dungeongamekata.config;
+
+import com.example.dungeongamekata.service.InMemorySharedResultCache;
+import com.example.dungeongamekata.service.RedisSharedResultCache;
+import com.example.dungeongamekata.service.SharedResultCache;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+@Configuration
+public class SharedResultCacheConfig {
+
+    @Bean
+    public SharedResultCache sharedResultCache(DungeonSharedCacheProperties properties,
+                                               ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        return switch (properties.getType()) {
+            case NONE -> SharedResultCache.NONE;
+            case MEMORY -> new InMemorySharedResultCache(properties);
+            case REDIS -> new RedisSharedResultCache(redisConnectionFactory.getObject(), properties);
+        };
+    }
+}
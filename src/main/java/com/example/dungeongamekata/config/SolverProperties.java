@@ -0,0 +1,93 @@
+package com.example.dungeongamekata.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the DP engines. Grids at or above {@code parallel.threshold-cells} are solved by
+ * the tiled wavefront engine; anything smaller stays on the scalar loop, where fork/join
+ * overhead would outweigh the gain.
+ */
+@Data
+@ConfigurationProperties(prefix = "dungeon.solver")
+public class SolverProperties {
+
+    private final Parallel parallel = new Parallel();
+    private final Coalescing coalescing = new Coalescing();
+    private final Admission admission = new Admission();
+    private final Memory memory = new Memory();
+    private final Buffers buffers = new Buffers();
+    private final Simd simd = new Simd();
+
+    @Data
+    public static class Parallel {
+        private boolean enabled = true;
+        private long thresholdCells = 1_000_000;
+        private int tileSize = 256;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Concurrent requests for the same grid wait for the one solve already in flight instead
+     * of repeating it. A waiter gives up after {@code wait-timeout} and solves on its own.
+     */
+    @Data
+    public static class Coalescing {
+        private boolean enabled = true;
+        private Duration waitTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * CPU-bound solves run on a fixed pool of {@code max-concurrent} threads behind a queue of
+     * {@code queue-capacity}. A full queue is rejected with 429; a solve that waited longer than
+     * {@code max-queue-wait} before starting is dropped with 503, since its client has likely
+     * given up already.
+     */
+    @Data
+    public static class Admission {
+        private boolean enabled = true;
+        private int maxConcurrent = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 64;
+        private Duration maxQueueWait = Duration.ofSeconds(2);
+    }
+
+    /**
+     * Cells of DP state all concurrent solves may hold at once, by default half the heap in
+     * {@code int}s. A solve whose full table is over {@code low-memory-threshold-cells}, or does
+     * not fit in what is left of the budget, runs on the low-memory engine instead. If even that
+     * does not fit within {@code max-wait} the request is dropped with 503.
+     */
+    @Data
+    public static class Memory {
+        private boolean enabled = true;
+        private long budgetCells = Runtime.getRuntime().maxMemory() / 2 / Integer.BYTES;
+        private long lowMemoryThresholdCells = 16_000_000;
+        private Duration maxWait = Duration.ofSeconds(2);
+    }
+
+    /**
+     * DP tables are reused between solves instead of allocated per request. Idle tables are
+     * kept up to {@code max-pooled-cells} in total; larger or surplus tables are left to the GC.
+     */
+    @Data
+    public static class Buffers {
+        private boolean pooled = true;
+        private long maxPooledCells = 8_000_000;
+    }
+
+    /**
+     * Vector API engine, available when the JVM runs with {@code --add-modules jdk.incubator.vector}.
+     * It is used when a request asks for {@code engine=simd}, and by {@code engine=auto} for grids
+     * of up to {@code auto-max-cells}: beyond the CPU caches its skewed copy of the grid makes it
+     * slower than the scalar loop. Batches solve grids of up to {@code pack-max-cells} that share
+     * a shape side by side, one grid per vector lane. 0 turns either off.
+     */
+    @Data
+    public static class Simd {
+        private boolean enabled = true;
+        private int autoMaxCells = 100_000;
+        private int packMaxCells = 1024;
+    }
+}
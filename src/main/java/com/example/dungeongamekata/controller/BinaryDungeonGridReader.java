@@ -0,0 +1,125 @@
+package com.example.dungeongamekata.controller;
+
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads the binary dungeon format straight into a flat {@code int[]}:
+ * <pre>
+ *   int32 rows | int32 cols | rows * cols int32 cells, row-major
+ * </pre>
+ * All values are little-endian and the body may be gzip-compressed. Dimensions are checked against the configured limits, and
+ * an uncompressed body whose {@code Content-Length} disagrees with them is rejected before anything else is read. The cells are
+ * reserved from {@link SolverMemoryBudget} while the body is read, and the cell array grows with the bytes that actually arrive,
+ * so a header that promises more than is sent costs no more than the payload itself. A short or overlong body is rejected.
+ */
+@Component
+public class BinaryDungeonGridReader {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    private final DungeonInputProperties properties;
+    private final SolverMemoryBudget memoryBudget;
+
+    public BinaryDungeonGridReader(DungeonInputProperties properties, SolverMemoryBudget memoryBudget) {
+        this.properties = properties;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * @param contentLength the request's {@code Content-Length}, or {@code null} when it is not known
+     */
+    public DungeonGrid read(InputStream body, Long contentLength, boolean gzip) {
+        try {
+            return read(Channels.newChannel(gzip ? new GZIPInputStream(body) : body), gzip ? null : contentLength);
+        } catch (IOException e) {
+            throw new InvalidDungeonInputException("Malformed binary dungeon body: " + e.getMessage());
+        }
+    }
+
+    private DungeonGrid read(ReadableByteChannel channel, Long contentLength) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        fill(channel, buffer, HEADER_BYTES);
+        if (buffer.position() < HEADER_BYTES) {
+            throw new InvalidDungeonInputException("Binary dungeon body must start with rows and cols");
+        }
+        buffer.flip();
+        int rows = buffer.getInt();
+        int cols = buffer.getInt();
+        validateDimensions(rows, cols);
+        int total = rows * cols;
+        long expectedBytes = HEADER_BYTES + (long) total * Integer.BYTES;
+        if (contentLength != null && contentLength != expectedBytes) {
+            throw new InvalidDungeonInputException("Binary dungeon body of " + contentLength + " bytes does not match "
+                    + rows + "x" + cols + " cells (" + expectedBytes + " bytes expected)");
+        }
+
+        try (SolverMemoryBudget.Reservation ignored = memoryBudget.reserveCells(total)) {
+            int[] cells = new int[Math.min(total, BUFFER_BYTES / Integer.BYTES)];
+            int read = 0;
+            while (read < total) {
+                if (read == cells.length) {
+                    cells = Arrays.copyOf(cells, (int) Math.min(total, 2L * cells.length));
+                }
+                IntBuffer ints = buffer.asIntBuffer();
+                int count = Math.min(ints.remaining(), cells.length - read);
+                ints.get(cells, read, count);
+                read += count;
+                buffer.position(buffer.position() + count * Integer.BYTES);
+
+                if (read < total && buffer.remaining() < Integer.BYTES) {
+                    buffer.compact();
+                    if (channel.read(buffer) < 0 && buffer.position() < Integer.BYTES) {
+                        throw new InvalidDungeonInputException(
+                                "Binary dungeon body ended after " + read + " of " + total + " cells");
+                    }
+                    buffer.flip();
+                }
+            }
+
+            if (buffer.hasRemaining() || channel.read(buffer.clear()) > 0) {
+                throw new InvalidDungeonInputException("Binary dungeon body has trailing bytes after " + total + " cells");
+            }
+
+            return new DungeonGrid(rows, cols, cells);
+        }
+    }
+
+    private void validateDimensions(int rows, int cols) {
+        if (rows <= 0) {
+            throw new InvalidDungeonInputException("Dungeon array cannot be null or empty");
+        }
+        if (cols <= 0) {
+            throw new InvalidDungeonInputException("Dungeon array cannot have empty rows");
+        }
+        if (rows > properties.getMaxRows() || cols > properties.getMaxCols()) {
+            throw new InvalidDungeonInputException("Dungeon exceeds the maximum of "
+                    + properties.getMaxRows() + " rows or " + properties.getMaxCols() + " columns");
+        }
+        if ((long) rows * cols > properties.getMaxCells()) {
+            throw new InvalidDungeonInputException(
+                    "Dungeon exceeds the maximum of " + properties.getMaxCells() + " cells");
+        }
+    }
+
+    private static void fill(ReadableByteChannel channel, ByteBuffer buffer, int minimum) throws IOException {
+        while (buffer.position() < minimum && channel.read(buffer) >= 0) {
+            // keep reading until the header is complete or the stream ends
+        }
+    }
+}
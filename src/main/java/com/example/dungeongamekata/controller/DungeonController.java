@@ -1,16 +1,29 @@
 package com.example.dungeongamekata.controller;
 
+import com.example.dungeongamekata.config.DungeonInputProperties;
 import com.example.dungeongamekata.service.DungeonService;
+import com.example.dungeongamekata.dto.BatchItemResponse;
+import com.example.dungeongamekata.dto.DungeonGrid;
 import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.PathFormat;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.dto.SolverEngine;
 import com.example.dungeongamekata.exception.InvalidDungeonInputException;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -18,10 +31,15 @@ import java.util.Map;
 @RestController
 public class DungeonController {
     private final DungeonService dungeonService;
+    private final BinaryDungeonGridReader binaryGridReader;
+    private final DungeonInputProperties inputProperties;
 
 
-    public DungeonController(DungeonService dungeonService) {
+    public DungeonController(DungeonService dungeonService, BinaryDungeonGridReader binaryGridReader,
+                             DungeonInputProperties inputProperties) {
         this.dungeonService = dungeonService;
+        this.binaryGridReader = binaryGridReader;
+        this.inputProperties = inputProperties;
     }
 
     @GetMapping("/hello")
@@ -29,34 +47,62 @@ public class DungeonController {
 
     @Operation(summary = "Calculate Minimum HP", description = "Calculates the minimum initial health points required to navigate the dungeon grid.")
     @PostMapping("/dungeon/solve")
-    public DungeonResponse calculateMinimumHP(@RequestBody int[][] dungeonGrid) {
-        validateInputGridForDungeon(dungeonGrid);
-        log.info("Received dungeon grid for calculation: {}x{}", dungeonGrid.length, dungeonGrid[0].length);
-        return dungeonService.calculateMinimumHP(dungeonGrid);
+    public DungeonResponse calculateMinimumHP(
+            @RequestBody DungeonGrid dungeonGrid,
+            @Parameter(description = "Reconstruct the path from checkpoint rows instead of a full DP table")
+            @RequestParam(defaultValue = "false") boolean lowMemory,
+            @Parameter(description = "When false only minimumHP is computed and returned")
+            @RequestParam(defaultValue = "true") boolean includePath,
+            @Parameter(description = "cells: path as [row, col] pairs; moves: path as a string of D (down) and R (right) steps")
+            @RequestParam(defaultValue = "cells") String pathFormat,
+            @Parameter(description = "DP engine: auto, scalar, wavefront, simd or low-memory")
+            @RequestParam(defaultValue = "auto") String engine) {
+        log.info("Received dungeon grid for calculation: {}x{}", dungeonGrid.rows(), dungeonGrid.cols());
+        return dungeonService.calculateMinimumHP(dungeonGrid,
+                new SolveOptions(lowMemory, includePath, PathFormat.parse(pathFormat), SolverEngine.parse(engine)));
     }
 
-    /**
-     * Validate the dungeon input.
-     *
-     * @param dungeon
-     */
-    private void validateInputGridForDungeon(int[][] dungeon) {
-        if (dungeon == null || dungeon.length == 0) {
-            throw new InvalidDungeonInputException("Dungeon array cannot be null or empty");
-        }
-
-        int rows = dungeon.length;
-        int cols = dungeon[0].length;
+    @Operation(summary = "Calculate Minimum HP (binary)",
+            description = "Same as /dungeon/solve, but the grid is sent as little-endian int32 rows, cols and cells. "
+                    + "The body may be gzip-compressed with Content-Encoding: gzip.")
+    @PostMapping(value = "/dungeon/solve/binary", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public DungeonResponse calculateMinimumHPBinary(
+            InputStream body,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            @RequestParam(defaultValue = "false") boolean lowMemory,
+            @RequestParam(defaultValue = "true") boolean includePath,
+            @RequestParam(defaultValue = "cells") String pathFormat,
+            @RequestParam(defaultValue = "auto") String engine) {
+        DungeonGrid dungeonGrid = binaryGridReader.read(body, contentLength, "gzip".equalsIgnoreCase(contentEncoding));
+        log.info("Received binary dungeon grid for calculation: {}x{}", dungeonGrid.rows(), dungeonGrid.cols());
+        return dungeonService.calculateMinimumHP(dungeonGrid,
+                new SolveOptions(lowMemory, includePath, PathFormat.parse(pathFormat), SolverEngine.parse(engine)));
+    }
 
-        if (cols == 0) {
-            throw new InvalidDungeonInputException("Dungeon array cannot have empty rows");
+    @Operation(summary = "Calculate Minimum HP (batch)",
+            description = "Solves a list of dungeon grids in one call. Results are returned in request order; "
+                    + "an invalid or oversized grid yields an entry with an error instead of failing the whole batch.")
+    @PostMapping("/dungeon/solve/batch")
+    public List<BatchItemResponse> calculateMinimumHPBatch(@RequestBody List<int[][]> dungeons) {
+        if (dungeons == null || dungeons.isEmpty()) {
+            throw new InvalidDungeonInputException("Dungeon batch cannot be null or empty");
         }
-
-        // Validate that all rows have the same length
-        for (int i = 1; i < rows; i++) {
-            if (dungeon[i].length != cols) {
-                throw new InvalidDungeonInputException("All rows in dungeon must have the same length");
+        if (dungeons.size() > inputProperties.getMaxBatchSize()) {
+            throw new InvalidDungeonInputException(
+                    "Dungeon batch cannot contain more than " + inputProperties.getMaxBatchSize() + " grids");
+        }
+        long cells = 0;
+        for (int[][] dungeon : dungeons) {
+            for (int i = 0; dungeon != null && i < dungeon.length; i++) {
+                cells += dungeon[i] == null ? 0 : dungeon[i].length;
             }
         }
+        if (cells > inputProperties.getMaxBatchCells()) {
+            throw new InvalidDungeonInputException(
+                    "Dungeon batch cannot contain more than " + inputProperties.getMaxBatchCells() + " cells");
+        }
+        log.info("Received dungeon batch for calculation: {} grids", dungeons.size());
+        return dungeonService.calculateMinimumHPBatch(dungeons);
     }
 }
@@ -0,0 +1,67 @@
+package com.example.dungeongamekata.controller;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonJobStatus;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.service.DungeonJobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+
+@Slf4j
+@Tag(name = "Dungeon jobs", description = "Asynchronous solves with progress streamed over server-sent events")
+@RestController
+public class DungeonJobController {
+    private final DungeonJobService jobService;
+
+    public DungeonJobController(DungeonJobService jobService) {
+        this.jobService = jobService;
+    }
+
+    @Operation(summary = "Submit a solve job",
+            description = "Queues the grid and returns the job id at once. Follow /dungeon/jobs/{jobId}/events for "
+                    + "progress, the result and the path.")
+    @PostMapping("/dungeon/jobs")
+    public ResponseEntity<DungeonJobStatus> submitJob(
+            @RequestBody DungeonGrid dungeonGrid,
+            @Parameter(description = "Reconstruct the path from checkpoint rows instead of a full DP table")
+            @RequestParam(defaultValue = "false") boolean lowMemory) {
+        log.info("Received dungeon grid for a solve job: {}x{}", dungeonGrid.rows(), dungeonGrid.cols());
+        DungeonJobStatus status = jobService.submit(dungeonGrid, new SolveOptions(lowMemory, true));
+        return ResponseEntity.accepted()
+                .location(URI.create("/dungeon/jobs/" + status.jobId()))
+                .body(status);
+    }
+
+    @Operation(summary = "Get job status")
+    @GetMapping("/dungeon/jobs/{jobId}")
+    public DungeonJobStatus getJob(@PathVariable String jobId) {
+        return jobService.status(jobId);
+    }
+
+    @Operation(summary = "Stream job events",
+            description = "Server-sent events: progress (rows completed), result, path (chunks of cells), end.")
+    @GetMapping(value = "/dungeon/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJob(@PathVariable String jobId) {
+        return jobService.subscribe(jobId);
+    }
+
+    @Operation(summary = "Cancel a job")
+    @DeleteMapping("/dungeon/jobs/{jobId}")
+    public DungeonJobStatus cancelJob(@PathVariable String jobId) {
+        return jobService.cancel(jobId);
+    }
+}
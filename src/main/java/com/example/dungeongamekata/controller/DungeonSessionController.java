@@ -0,0 +1,55 @@
+package com.example.dungeongamekata.controller;
+
+import com.example.dungeongamekata.dto.CellEdit;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonSessionResponse;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.example.dungeongamekata.service.DungeonSessionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@Tag(name = "Dungeon sessions", description = "Incremental re-solve API for the level editor")
+@RestController
+public class DungeonSessionController {
+    private final DungeonSessionService sessionService;
+
+    public DungeonSessionController(DungeonSessionService sessionService) {
+        this.sessionService = sessionService;
+    }
+
+    @Operation(summary = "Open a solve session",
+            description = "Solves the grid and keeps its DP table so that later edits are solved incrementally.")
+    @PostMapping("/dungeon/sessions")
+    public DungeonSessionResponse createSession(@RequestBody DungeonGrid dungeonGrid) {
+        log.info("Received dungeon grid for a solve session: {}x{}", dungeonGrid.rows(), dungeonGrid.cols());
+        return sessionService.create(dungeonGrid);
+    }
+
+    @Operation(summary = "Edit cells of a session",
+            description = "Applies the cell edits and recomputes only the DP region above and left of them.")
+    @PatchMapping("/dungeon/sessions/{sessionId}")
+    public DungeonSessionResponse editSession(@PathVariable String sessionId, @RequestBody List<CellEdit> edits) {
+        if (edits == null || edits.isEmpty()) {
+            throw new InvalidDungeonInputException("Cell edits cannot be null or empty");
+        }
+        return sessionService.edit(sessionId, edits);
+    }
+
+    @Operation(summary = "Close a session")
+    @DeleteMapping("/dungeon/sessions/{sessionId}")
+    public ResponseEntity<Void> closeSession(@PathVariable String sessionId) {
+        sessionService.close(sessionId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.dungeongamekata.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One entry of a batch solve, in the same position as the grid it answers. Either
+ * {@code minimumHP} and {@code path} or {@code error} is set.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchItemResponse(int index, Integer minimumHP, List<int[]> path, String error) {
+
+    public static BatchItemResponse success(int index, DungeonResponse response) {
+        return new BatchItemResponse(index, response.minimumHP(), response.path(), null);
+    }
+
+    public static BatchItemResponse failure(int index, String error) {
+        return new BatchItemResponse(index, null, null, error);
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.dungeongamekata.dto;
+
+/**
+ * New value for one cell of a dungeon held in a solve session.
+ */
+public record CellEdit(int row, int col, int value) {}
@@ -0,0 +1,247 @@
+package com.example.dungeongamekata.dto;
+
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Dungeon grid stored row-major in a single contiguous {@code int[]}. This is the internal
+ * representation used for validation, hashing, caching and solving; {@code int[][]} only
+ * exists at the JSON edge. Serializes to the same nested-array JSON as {@code int[][]} and
+ * is read back from it by {@link Deserializer}, which validates while parsing.
+ */
+@Schema(type = "array", description = "Rows of cell values, all of the same length",
+        example = "[[1,-3,3],[0,-2,0],[-3,-3,-3]]")
+@JsonSerialize(using = DungeonGrid.Serializer.class)
+@JsonDeserialize(using = DungeonGrid.Deserializer.class)
+public final class DungeonGrid {
+
+    private final int rows;
+    private final int cols;
+    private final int[] cells;
+
+    public DungeonGrid(int rows, int cols, int[] cells) {
+        if ((long) rows * cols != cells.length) {
+            throw new IllegalArgumentException("Expected " + (long) rows * cols + " cells but got " + cells.length);
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+    }
+
+    /**
+     * Validate a jagged grid and copy it into the flat layout.
+     */
+    public static DungeonGrid of(int[][] dungeon) {
+        return of(dungeon, Integer.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Like {@link #of(int[][])}, but also rejects a grid over the configured dimensions, with the
+     * same messages as {@link Deserializer}, before its cells are copied.
+     */
+    public static DungeonGrid of(int[][] dungeon, DungeonInputProperties limits) {
+        return of(dungeon, limits.getMaxRows(), limits.getMaxCols(), limits.getMaxCells());
+    }
+
+    private static DungeonGrid of(int[][] dungeon, int maxRows, int maxCols, long maxCells) {
+        if (dungeon == null || dungeon.length == 0) {
+            throw new InvalidDungeonInputException("Dungeon array cannot be null or empty");
+        }
+
+        int rows = dungeon.length;
+        int cols = dungeon[0] == null ? 0 : dungeon[0].length;
+
+        if (cols == 0) {
+            throw new InvalidDungeonInputException("Dungeon array cannot have empty rows");
+        }
+        if (rows > maxRows || cols > maxCols) {
+            throw new InvalidDungeonInputException(
+                    "Dungeon exceeds the maximum of " + maxRows + " rows or " + maxCols + " columns");
+        }
+        if ((long) rows * cols > maxCells) {
+            throw new InvalidDungeonInputException("Dungeon exceeds the maximum of " + maxCells + " cells");
+        }
+
+        int[] cells = new int[rows * cols];
+        for (int i = 0; i < rows; i++) {
+            if (dungeon[i] == null || dungeon[i].length != cols) {
+                throw new InvalidDungeonInputException("All rows in dungeon must have the same length");
+            }
+            System.arraycopy(dungeon[i], 0, cells, i * cols, cols);
+        }
+        return new DungeonGrid(rows, cols, cells);
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int cellCount() {
+        return cells.length;
+    }
+
+    public int get(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    /**
+     * Backing row-major array, exposed for the solver and hashing hot loops. Must not be modified.
+     */
+    public int[] cells() {
+        return cells;
+    }
+
+    public int[][] toArray() {
+        int[][] grid = new int[rows][];
+        for (int i = 0; i < rows; i++) {
+            grid[i] = Arrays.copyOfRange(cells, i * cols, (i + 1) * cols);
+        }
+        return grid;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof DungeonGrid other
+                && rows == other.rows && cols == other.cols && Arrays.equals(cells, other.cells));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * rows + cols) + Arrays.hashCode(cells);
+    }
+
+    @Override
+    public String toString() {
+        return "DungeonGrid[" + rows + "x" + cols + "]";
+    }
+
+    public static class Serializer extends StdSerializer<DungeonGrid> {
+
+        public Serializer() {
+            super(DungeonGrid.class);
+        }
+
+        @Override
+        public void serialize(DungeonGrid grid, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            for (int i = 0; i < grid.rows; i++) {
+                gen.writeArray(grid.cells, i * grid.cols, grid.cols);
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    /**
+     * Streams a nested JSON array straight into the flat cell array, rejecting empty, ragged
+     * and oversized grids at the first offending token instead of after binding the whole body
+     * into {@code int[][]}. Messages match {@link #of(int[][])}. Anything that is not an array
+     * of integer arrays is left to Jackson and surfaces as an unreadable body.
+     *
+     * <p>Within Spring the limits come from {@link DungeonInputProperties}; Jackson's own
+     * instantiation falls back to the defaults.
+     */
+    public static class Deserializer extends StdDeserializer<DungeonGrid> {
+
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final int maxRows;
+        private final int maxCols;
+        private final long maxCells;
+
+        public Deserializer() {
+            this(new DungeonInputProperties());
+        }
+
+        @Autowired
+        public Deserializer(DungeonInputProperties properties) {
+            super(DungeonGrid.class);
+            this.maxRows = properties.getMaxRows();
+            this.maxCols = properties.getMaxCols();
+            this.maxCells = properties.getMaxCells();
+        }
+
+        @Override
+        public DungeonGrid deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartArrayToken()) {
+                return (DungeonGrid) ctxt.handleUnexpectedToken(DungeonGrid.class, p);
+            }
+
+            int[] cells = new int[INITIAL_CAPACITY];
+            int rows = 0;
+            int cols = -1;
+            JsonToken token;
+            while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_ARRAY) {
+                    if (token == JsonToken.VALUE_NULL) {
+                        throw new InvalidDungeonInputException(cols < 0
+                                ? "Dungeon array cannot have empty rows"
+                                : "All rows in dungeon must have the same length");
+                    }
+                    return (DungeonGrid) ctxt.handleUnexpectedToken(int[].class, p);
+                }
+                if (++rows > maxRows) {
+                    throw tooLarge();
+                }
+
+                int start = cols < 0 ? 0 : (rows - 1) * cols;
+                int read = 0;
+                while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token != JsonToken.VALUE_NUMBER_INT) {
+                        return (DungeonGrid) ctxt.handleUnexpectedToken(int.class, p);
+                    }
+                    if (cols >= 0 && read == cols) {
+                        throw new InvalidDungeonInputException("All rows in dungeon must have the same length");
+                    }
+                    if (cols < 0 && read == maxCols) {
+                        throw tooLarge();
+                    }
+                    if ((long) start + read >= maxCells) {
+                        throw new InvalidDungeonInputException("Dungeon exceeds the maximum of " + maxCells + " cells");
+                    }
+                    if (start + read == cells.length) {
+                        cells = Arrays.copyOf(cells, (int) Math.min(maxCells, 2L * cells.length));
+                    }
+                    cells[start + read++] = p.getIntValue();
+                }
+
+                if (cols < 0) {
+                    if (read == 0) {
+                        throw new InvalidDungeonInputException("Dungeon array cannot have empty rows");
+                    }
+                    cols = read;
+                } else if (read != cols) {
+                    throw new InvalidDungeonInputException("All rows in dungeon must have the same length");
+                }
+            }
+
+            if (rows == 0) {
+                throw new InvalidDungeonInputException("Dungeon array cannot be null or empty");
+            }
+            int cellCount = rows * cols;
+            return new DungeonGrid(rows, cols, cells.length == cellCount ? cells : Arrays.copyOf(cells, cellCount));
+        }
+
+        private InvalidDungeonInputException tooLarge() {
+            return new InvalidDungeonInputException(
+                    "Dungeon exceeds the maximum of " + maxRows + " rows or " + maxCols + " columns");
+        }
+    }
+}
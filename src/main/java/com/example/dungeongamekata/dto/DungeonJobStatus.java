@@ -0,0 +1,20 @@
+package com.example.dungeongamekata.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Snapshot of an asynchronous solve job. {@code minimumHP} is set once the job is
+ * {@link State#DONE}, {@code error} when it {@link State#FAILED}.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DungeonJobStatus(String jobId, State state, int rows, int cols, int rowsCompleted,
+                               Integer minimumHP, String error) {
+
+    public enum State {
+        QUEUED, RUNNING, DONE, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == DONE || this == FAILED || this == CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.dungeongamekata.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Path from the entrance to the princess stored as one bit per move (1 = down, 0 = right),
+ * least significant bit first. A path through an m x n grid always has m - 1 downs and
+ * n - 1 rights, so the bits and the dimensions are enough to recover every cell; coordinates
+ * are only materialised when the list is read, and JSON output writes them straight from the
+ * bits without allocating a pair per cell.
+ */
+@JsonSerialize(using = DungeonPath.Serializer.class)
+public final class DungeonPath extends AbstractList<int[]> {
+
+    private final int rows;
+    private final int cols;
+    private final byte[] moves;
+    private final int offset;
+
+    private DungeonPath(int rows, int cols, byte[] moves, int offset) {
+        this.rows = rows;
+        this.cols = cols;
+        this.moves = moves;
+        this.offset = offset;
+    }
+
+    /**
+     * Wraps {@code moveBytes(rows, cols)} bytes of {@code moves} starting at {@code offset}
+     * without copying them.
+     */
+    public static DungeonPath view(int rows, int cols, byte[] moves, int offset) {
+        if (rows < 1 || cols < 1 || offset < 0 || moves.length - offset < moveBytes(rows, cols)) {
+            throw new IllegalArgumentException("Move bits do not fit a " + rows + "x" + cols + " path");
+        }
+        return new DungeonPath(rows, cols, moves, offset);
+    }
+
+    /**
+     * Converts a list of {@code [row, col]} cells into move bits. The path must start at
+     * {@code [0, 0]} and take one step down or right at a time.
+     */
+    public static DungeonPath fromCells(List<int[]> cells) {
+        if (cells instanceof DungeonPath path) {
+            return path;
+        }
+        if (cells == null || cells.isEmpty() || cells.get(0)[0] != 0 || cells.get(0)[1] != 0) {
+            throw new IllegalArgumentException("Path must start at [0, 0]");
+        }
+        int[] last = cells.get(cells.size() - 1);
+        int rows = last[0] + 1;
+        int cols = last[1] + 1;
+        if (cells.size() != rows + cols - 1) {
+            throw new IllegalArgumentException("Path must move one cell down or right per step");
+        }
+
+        byte[] moves = new byte[moveBytes(rows, cols)];
+        int[] previous = cells.get(0);
+        for (int step = 0; step < cells.size() - 1; step++) {
+            int[] next = cells.get(step + 1);
+            if (next[0] == previous[0] + 1 && next[1] == previous[1]) {
+                moves[step >>> 3] |= (byte) (1 << (step & 7));
+            } else if (next[0] != previous[0] || next[1] != previous[1] + 1) {
+                throw new IllegalArgumentException("Path must move one cell down or right per step");
+            }
+            previous = next;
+        }
+        return new DungeonPath(rows, cols, moves, 0);
+    }
+
+    public static Builder builder(int rows, int cols) {
+        return new Builder(rows, cols);
+    }
+
+    public static int moveBytes(int rows, int cols) {
+        return (rows + cols - 2 + 7) / 8;
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int cols() {
+        return cols;
+    }
+
+    public int moveCount() {
+        return rows + cols - 2;
+    }
+
+    public boolean isDown(int step) {
+        return (moves[offset + (step >>> 3)] & (1 << (step & 7))) != 0;
+    }
+
+    /**
+     * The moves as a string of {@code D} (down) and {@code R} (right), one character per step.
+     */
+    public String toMoves() {
+        byte[] letters = new byte[moveCount()];
+        for (int step = 0; step < letters.length; step++) {
+            letters[step] = isDown(step) ? (byte) 'D' : (byte) 'R';
+        }
+        return new String(letters, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Copies the packed move bits into {@code target} at {@code targetOffset}.
+     */
+    public void copyMoves(byte[] target, int targetOffset) {
+        System.arraycopy(moves, offset, target, targetOffset, moveBytes(rows, cols));
+    }
+
+    @Override
+    public int size() {
+        return rows + cols - 1;
+    }
+
+    @Override
+    public int[] get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int downs = 0;
+        int fullBytes = index >>> 3;
+        for (int b = 0; b < fullBytes; b++) {
+            downs += Integer.bitCount(moves[offset + b] & 0xFF);
+        }
+        int remainder = index & 7;
+        if (remainder != 0) {
+            downs += Integer.bitCount(moves[offset + fullBytes] & ((1 << remainder) - 1));
+        }
+        return new int[]{downs, index - downs};
+    }
+
+    @Override
+    public Iterator<int[]> iterator() {
+        return new Iterator<>() {
+            private int step;
+            private int row;
+            private int col;
+
+            @Override
+            public boolean hasNext() {
+                return step < size();
+            }
+
+            @Override
+            public int[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int[] cell = {row, col};
+                if (step < moveCount()) {
+                    if (isDown(step)) {
+                        row++;
+                    } else {
+                        col++;
+                    }
+                }
+                step++;
+                return cell;
+            }
+        };
+    }
+
+    /**
+     * Records a path one move at a time, for solvers walking their DP table from the entrance.
+     */
+    public static final class Builder {
+        private final int rows;
+        private final int cols;
+        private final byte[] moves;
+        private int step;
+
+        private Builder(int rows, int cols) {
+            this.rows = rows;
+            this.cols = cols;
+            this.moves = new byte[moveBytes(rows, cols)];
+        }
+
+        public Builder down() {
+            moves[step >>> 3] |= (byte) (1 << (step & 7));
+            step++;
+            return this;
+        }
+
+        public Builder right() {
+            step++;
+            return this;
+        }
+
+        public DungeonPath build() {
+            if (step != rows + cols - 2) {
+                throw new IllegalStateException("Path has " + step + " of " + (rows + cols - 2) + " moves");
+            }
+            return new DungeonPath(rows, cols, moves, 0);
+        }
+    }
+
+    public static class Serializer extends StdSerializer<DungeonPath> {
+
+        public Serializer() {
+            super(DungeonPath.class);
+        }
+
+        @Override
+        public void serialize(DungeonPath path, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeStartArray();
+            int row = 0;
+            int col = 0;
+            for (int step = 0; ; step++) {
+                gen.writeStartArray();
+                gen.writeNumber(row);
+                gen.writeNumber(col);
+                gen.writeEndArray();
+                if (step == path.moveCount()) {
+                    break;
+                }
+                if (path.isDown(step)) {
+                    row++;
+                } else {
+                    col++;
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+}
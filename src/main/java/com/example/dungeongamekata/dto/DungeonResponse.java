@@ -1,5 +1,17 @@
 package com.example.dungeongamekata.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
-public record DungeonResponse(int minimumHP, List<int[]> path) {}
\ No newline at end of file
+/**
+ * @param path  cells from the entrance to the princess, for {@link PathFormat#CELLS}
+ * @param moves the same path as {@code D}/{@code R} steps, for {@link PathFormat#MOVES}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DungeonResponse(int minimumHP, List<int[]> path, String moves) {
+
+    public DungeonResponse(int minimumHP, List<int[]> path) {
+        this(minimumHP, path, null);
+    }
+}
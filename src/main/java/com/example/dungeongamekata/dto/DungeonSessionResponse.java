@@ -0,0 +1,11 @@
+package com.example.dungeongamekata.dto;
+
+import java.util.List;
+
+/**
+ * Current answer for a solve session.
+ *
+ * @param recomputedCells DP cells recomputed by the request that produced this answer; the
+ *                        whole grid when the session is created, only the edited region after
+ */
+public record DungeonSessionResponse(String sessionId, int minimumHP, List<int[]> path, long recomputedCells) {}
@@ -17,17 +17,25 @@ public class ModelRun {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String input;
+    @Column(name = "input_hash", unique = true)
+    private byte[] inputHash;
 
     @Column(nullable = false)
+    private String input;
+
+    /**
+     * Legacy JSON output; new rows only fill {@link #outputBin}.
+     */
     private String output;
 
+    @Column(name = "output_bin")
+    private byte[] outputBin;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
-    public static ModelRun of(String input, String output) {
+    public static ModelRun of(byte[] inputHash, String input, byte[] outputBin) {
         LocalDateTime now = LocalDateTime.now();
-        return new ModelRun(null, input, output, now);
+        return new ModelRun(null, inputHash, input, null, outputBin, now);
     }
 }
@@ -0,0 +1,8 @@
+package com.example.dungeongamekata.dto;
+
+import java.util.List;
+
+/**
+ * Consecutive path cells starting at path index {@code offset}, streamed to job subscribers.
+ */
+public record PathChunk(int offset, List<int[]> cells) {}
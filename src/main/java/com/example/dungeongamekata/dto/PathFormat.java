@@ -0,0 +1,24 @@
+package com.example.dungeongamekata.dto;
+
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+
+/**
+ * How the path is written in a {@link DungeonResponse}.
+ */
+public enum PathFormat {
+
+    /** {@code "path": [[0,0],[0,1],...]}, one coordinate pair per cell. */
+    CELLS,
+
+    /** {@code "moves": "RRDD"}, one character per step; about an eighth of the cells payload. */
+    MOVES;
+
+    public static PathFormat parse(String value) {
+        for (PathFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidDungeonInputException("pathFormat must be one of: cells, moves");
+    }
+}
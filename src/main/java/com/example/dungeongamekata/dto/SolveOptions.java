@@ -0,0 +1,26 @@
+package com.example.dungeongamekata.dto;
+
+/**
+ * Per-request solver switches.
+ *
+ * @param lowMemory   reconstruct the path from checkpoint rows instead of a full DP table
+ * @param includePath when false only minimumHP is computed, using a single rolling row
+ * @param pathFormat  how the path is written in the response when it is included
+ * @param engine      DP engine to use; {@code lowMemory} is the same as {@link SolverEngine#LOW_MEMORY}
+ */
+public record SolveOptions(boolean lowMemory, boolean includePath, PathFormat pathFormat, SolverEngine engine) {
+
+    public static final SolveOptions DEFAULT = new SolveOptions(false, true, PathFormat.CELLS, SolverEngine.AUTO);
+
+    public SolveOptions {
+        lowMemory = lowMemory || engine == SolverEngine.LOW_MEMORY;
+    }
+
+    public SolveOptions(boolean lowMemory, boolean includePath, PathFormat pathFormat) {
+        this(lowMemory, includePath, pathFormat, SolverEngine.AUTO);
+    }
+
+    public SolveOptions(boolean lowMemory, boolean includePath) {
+        this(lowMemory, includePath, PathFormat.CELLS);
+    }
+}
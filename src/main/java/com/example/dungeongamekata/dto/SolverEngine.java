@@ -0,0 +1,33 @@
+package com.example.dungeongamekata.dto;
+
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+
+/**
+ * DP engine requested for a solve. Every engine returns the same minimumHP and path.
+ */
+public enum SolverEngine {
+
+    /**
+     * Wavefront above {@code dungeon.solver.parallel.threshold-cells}, SIMD up to
+     * {@code dungeon.solver.simd.auto-max-cells}, scalar in between.
+     */
+    AUTO,
+
+    SCALAR,
+
+    WAVEFRONT,
+
+    /** Vector API over anti-diagonals; runs the scalar engine when the JVM lacks {@code jdk.incubator.vector}. */
+    SIMD,
+
+    LOW_MEMORY;
+
+    public static SolverEngine parse(String value) {
+        for (SolverEngine engine : values()) {
+            if (engine.name().replace('_', '-').equalsIgnoreCase(value)) {
+                return engine;
+            }
+        }
+        throw new InvalidDungeonInputException("engine must be one of: auto, scalar, wavefront, simd, low-memory");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.dungeongamekata.exception;
+
+public class DungeonJobNotFoundException extends RuntimeException {
+    public DungeonJobNotFoundException(String jobId) {
+        super("Dungeon job not found or expired: " + jobId);
+    }
+}
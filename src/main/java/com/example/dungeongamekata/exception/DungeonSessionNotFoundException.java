@@ -0,0 +1,7 @@
+package com.example.dungeongamekata.exception;
+
+public class DungeonSessionNotFoundException extends RuntimeException {
+    public DungeonSessionNotFoundException(String sessionId) {
+        super("Dungeon session not found or expired: " + sessionId);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.dungeongamekata.exception;
 import com.example.dungeongamekata.dto.ErrorResponse;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -16,11 +17,15 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 @ControllerAdvice(basePackages = "com.example.dungeongamekata.controller")
 public class GlobalExceptionHandler {
 
+    private static final int BAD_REQUEST_LOG_LINES_PER_SECOND = 10;
+
+    private final LogRateLimiter badRequestLog = new LogRateLimiter(BAD_REQUEST_LOG_LINES_PER_SECOND);
+
     @ExceptionHandler(InvalidDungeonInputException.class)
     public ResponseEntity<ErrorResponse> handleInvalidDungeonInputException(
             InvalidDungeonInputException ex, WebRequest request) {
 
-        log.warn("Invalid dungeon input: {} at {}", ex.getMessage(), request.getDescription(false), ex);
+        logBadRequest("Invalid dungeon input: " + ex.getMessage(), request);
 
         ErrorResponse errorResponse = new ErrorResponse(
                 ex.getMessage() != null ? ex.getMessage() : "Invalid dungeon input provided",
@@ -32,11 +37,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
 
+    @ExceptionHandler({DungeonSessionNotFoundException.class, DungeonJobNotFoundException.class})
+    public ResponseEntity<ErrorResponse> handleNotFoundException(
+            RuntimeException ex, WebRequest request) {
+
+        log.warn("{} at {}", ex.getMessage(), request.getDescription(false));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            HttpStatus.NOT_FOUND.value(),
+            request.getDescription(false).replace("uri=", ""),
+            "Not Found"
+        );
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
 
-        log.warn("Illegal argument: {} at {}", ex.getMessage(), request.getDescription(false), ex);
+        logBadRequest("Illegal argument: " + ex.getMessage(), request);
 
         ErrorResponse errorResponse = new ErrorResponse(
             ex.getMessage() != null ? ex.getMessage() : "Invalid argument provided",
@@ -52,7 +73,11 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadableException(
             HttpMessageNotReadableException ex, WebRequest request) {
 
-        log.warn("Invalid JSON request at {}: {}", request.getDescription(false), ex.getMessage(), ex);
+        if (ex.getMostSpecificCause() instanceof InvalidDungeonInputException invalidInput) {
+            return handleInvalidDungeonInputException(invalidInput, request);
+        }
+
+        logBadRequest("Invalid JSON request: " + ex.getMessage(), request);
 
         ErrorResponse errorResponse = new ErrorResponse(
             "Invalid JSON format or malformed request body",
@@ -68,7 +93,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(
             MethodArgumentNotValidException ex, WebRequest request) {
 
-        log.warn("Validation failed at {}: {}", request.getDescription(false), ex.getMessage(), ex);
+        logBadRequest("Validation failed: " + ex.getMessage(), request);
 
         String message = ex.getBindingResult().getFieldErrors().stream()
             .map(error -> error.getField() + ": " + error.getDefaultMessage())
@@ -89,7 +114,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(
             MethodArgumentTypeMismatchException ex, WebRequest request) {
 
-        log.warn("Type mismatch for parameter '{}' at {}: {}", ex.getName(), request.getDescription(false), ex.getMessage(), ex);
+        logBadRequest("Type mismatch for parameter '" + ex.getName() + "': " + ex.getMessage(), request);
 
         String message = String.format("Parameter '%s' should be of type %s",
             ex.getName(), ex.getRequiredType() != null ? ex.getRequiredType().getSimpleName() : "unknown");
@@ -120,6 +145,24 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
 
+    @ExceptionHandler(SolverOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleSolverOverloadedException(
+            SolverOverloadedException ex, WebRequest request) {
+
+        log.warn("Solver overloaded at {}: {}", request.getDescription(false), ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            ex.getMessage(),
+            ex.getStatus().value(),
+            request.getDescription(false).replace("uri=", ""),
+            ex.getStatus().getReasonPhrase()
+        );
+
+        return ResponseEntity.status(ex.getStatus())
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ErrorResponse> handleRuntimeException(
             RuntimeException ex, WebRequest request) {
@@ -151,4 +194,17 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
     }
-}
+
+    /**
+     * Client errors are logged without stack traces and at most
+     * {@value #BAD_REQUEST_LOG_LINES_PER_SECOND} lines per second.
+     */
+    private void logBadRequest(String message, WebRequest request) {
+        long suppressed = badRequestLog.tryAcquire();
+        if (suppressed > 0) {
+            log.warn("{} at {} ({} similar messages suppressed)", message, request.getDescription(false), suppressed);
+        } else if (suppressed == 0) {
+            log.warn("{} at {}", message, request.getDescription(false));
+        }
+    }
+}
\ No newline at end of file
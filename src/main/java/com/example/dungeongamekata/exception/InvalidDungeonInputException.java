@@ -1,7 +1,10 @@
 package com.example.dungeongamekata.exception;
 
+/**
+ * Rejected client input. Thrown on every bad request, so it carries no stack trace.
+ */
 public class InvalidDungeonInputException extends RuntimeException {
     public InvalidDungeonInputException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.example.dungeongamekata.exception;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Allows up to a fixed number of log lines per second. Lines over the limit are counted and the
+ * count is handed to the next line that is allowed through, so a flood of bad requests shows up
+ * in the log as a summary instead of one warning each.
+ */
+final class LogRateLimiter {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int linesPerSecond;
+    private final LongSupplier nanoClock;
+
+    private long windowStart;
+    private int logged;
+    private long suppressed;
+
+    LogRateLimiter(int linesPerSecond) {
+        this(linesPerSecond, System::nanoTime);
+    }
+
+    LogRateLimiter(int linesPerSecond, LongSupplier nanoClock) {
+        this.linesPerSecond = linesPerSecond;
+        this.nanoClock = nanoClock;
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * @return -1 if the line should be dropped, otherwise the number of lines dropped since the
+     * last one that was allowed
+     */
+    synchronized long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        if (now - windowStart >= WINDOW_NANOS) {
+            windowStart = now;
+            logged = 0;
+        }
+        if (logged >= linesPerSecond) {
+            suppressed++;
+            return -1;
+        }
+        logged++;
+        long dropped = suppressed;
+        suppressed = 0;
+        return dropped;
+    }
+}
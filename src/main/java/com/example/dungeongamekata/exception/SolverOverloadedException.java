@@ -0,0 +1,16 @@
+package com.example.dungeongamekata.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class SolverOverloadedException extends RuntimeException {
+    private final HttpStatus status;
+
+    public SolverOverloadedException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+
+    public HttpStatus getStatus() {
+        return status;
+    }
+}
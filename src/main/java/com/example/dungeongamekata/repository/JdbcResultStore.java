@@ -0,0 +1,103 @@
+package com.example.dungeongamekata.repository;
+
+import com.example.dungeongamekata.dto.ModelRun;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ResultStore} on plain JDBC, without an entity manager, persistence context or query
+ * derivation in between. Lookups select only the columns needed to verify and decode a result and
+ * map them to detached {@link ModelRun}s; each is a single auto-commit statement, so it needs no
+ * transaction. Statement texts are constant (array parameters stand in for lists of values), so
+ * the driver's server-side prepared statement cache covers every call.
+ *
+ * <p>Writes are upserts: a row stored earlier with only the legacy JSON output gets its
+ * output_bin filled in, any other existing row is left as it is.
+ */
+public class JdbcResultStore implements ResultStore {
+
+    private static final String FIND_SQL = """
+            SELECT id, input, output, output_bin
+            FROM model_runs
+            WHERE input_hash = ?""";
+
+    private static final String FIND_ALL_SQL = """
+            SELECT id, input_hash, input, output, output_bin
+            FROM model_runs
+            WHERE input_hash = ANY (?)""";
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO model_runs (input_hash, input, output_bin, created_at)
+            SELECT DISTINCT ON (input_hash) *
+            FROM unnest(?, ?, ?, ?) AS run (input_hash, input, output_bin, created_at)
+            ON CONFLICT (input_hash) DO UPDATE SET output_bin = EXCLUDED.output_bin
+            WHERE model_runs.output_bin IS NULL""";
+
+    private final JdbcClient jdbcClient;
+
+    public JdbcResultStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = JdbcClient.create(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<ModelRun> findByInputHash(byte[] inputHash) {
+        return jdbcClient.sql(FIND_SQL)
+                .param(inputHash)
+                .query((rs, rowNum) -> toModelRun(rs, inputHash))
+                .optional();
+    }
+
+    @Override
+    public List<ModelRun> findByInputHashIn(Collection<byte[]> inputHashes) {
+        if (inputHashes.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(FIND_ALL_SQL)
+                .param(array("bytea", inputHashes.toArray(new byte[0][])))
+                .query((rs, rowNum) -> toModelRun(rs, rs.getBytes("input_hash")))
+                .list();
+    }
+
+    /**
+     * Upserts all runs in one statement, one array parameter per column, whatever the batch size.
+     * A digest repeated within the batch is written once, since one statement cannot update the
+     * same row twice.
+     */
+    @Override
+    public void saveAll(List<ModelRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        jdbcClient.sql(UPSERT_SQL)
+                .param(array("bytea", runs.stream().map(ModelRun::getInputHash).toArray(byte[][]::new)))
+                .param(array("text", runs.stream().map(ModelRun::getInput).toArray(String[]::new)))
+                .param(array("bytea", runs.stream().map(ModelRun::getOutputBin).toArray(byte[][]::new)))
+                .param(array("timestamp", runs.stream().map(run -> Timestamp.valueOf(run.getCreatedAt()))
+                        .toArray(Timestamp[]::new)))
+                .update();
+    }
+
+    private static AbstractSqlTypeValue array(String elementType, Object[] elements) {
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName)
+                    throws SQLException {
+                return connection.createArrayOf(elementType, elements);
+            }
+        };
+    }
+
+    private static ModelRun toModelRun(ResultSet rs, byte[] inputHash) throws SQLException {
+        return new ModelRun(rs.getLong("id"), inputHash, rs.getString("input"), rs.getString("output"),
+                rs.getBytes("output_bin"), null);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.dungeongamekata.repository;
+
+import com.example.dungeongamekata.dto.ModelRun;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ResultStore} on the Spring Data repository: lookups load {@link ModelRun} entities
+ * through Hibernate, writes go through {@link ModelRunBatchWriter}.
+ */
+public class JpaResultStore implements ResultStore {
+
+    private final ModelRunRepository modelRunRepository;
+    private final ModelRunBatchWriter batchWriter;
+
+    public JpaResultStore(ModelRunRepository modelRunRepository, ModelRunBatchWriter batchWriter) {
+        this.modelRunRepository = modelRunRepository;
+        this.batchWriter = batchWriter;
+    }
+
+    @Override
+    public Optional<ModelRun> findByInputHash(byte[] inputHash) {
+        return modelRunRepository.findByInputHash(inputHash);
+    }
+
+    @Override
+    public List<ModelRun> findByInputHashIn(Collection<byte[]> inputHashes) {
+        return modelRunRepository.findByInputHashIn(inputHashes);
+    }
+
+    @Override
+    public void saveAll(List<ModelRun> runs) {
+        batchWriter.insertIgnoringDuplicates(runs);
+    }
+}
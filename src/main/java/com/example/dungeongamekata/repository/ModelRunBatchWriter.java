@@ -0,0 +1,39 @@
+package com.example.dungeongamekata.repository;
+
+import com.example.dungeongamekata.dto.ModelRun;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Plain JDBC batch insert for model runs, bypassing the JPA merge check. Rows whose digest is
+ * already stored (e.g. written concurrently by another replica) are skipped by the database.
+ */
+@Repository
+public class ModelRunBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO model_runs (input_hash, input, output_bin, created_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (input_hash) DO NOTHING""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ModelRunBatchWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertIgnoringDuplicates(List<ModelRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, runs, runs.size(), (ps, run) -> {
+            ps.setBytes(1, run.getInputHash());
+            ps.setString(2, run.getInput());
+            ps.setBytes(3, run.getOutputBin());
+            ps.setTimestamp(4, Timestamp.valueOf(run.getCreatedAt()));
+        });
+    }
+}
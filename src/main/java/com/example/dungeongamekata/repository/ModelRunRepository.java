@@ -2,8 +2,22 @@ package com.example.dungeongamekata.repository;
 
 import com.example.dungeongamekata.dto.ModelRun;
 import org.springframework.data.repository.CrudRepository;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ModelRunRepository extends CrudRepository<ModelRun, Long> {
-    Optional<ModelRun> findByInput(String input);
+    Optional<ModelRun> findByInputHash(byte[] inputHash);
+
+    List<ModelRun> findByInputHashIn(Collection<byte[]> inputHashes);
+
+    List<ModelRun> findTop500ByInputHashIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    List<ModelRun> findTop500ByOutputBinIsNullAndIdGreaterThanOrderByIdAsc(Long id);
+
+    /**
+     * Newest stored results first, keyset-paged by id; only the key and the binary output are read.
+     */
+    List<StoredResult> findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(Long id);
 }
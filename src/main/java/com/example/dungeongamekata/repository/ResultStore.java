@@ -0,0 +1,23 @@
+package com.example.dungeongamekata.repository;
+
+import com.example.dungeongamekata.dto.ModelRun;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Solved results in model_runs as seen by the request path and the write-behind queue. The
+ * implementation is picked with {@code dungeon.store.type}; both read and write the same rows.
+ */
+public interface ResultStore {
+
+    Optional<ModelRun> findByInputHash(byte[] inputHash);
+
+    List<ModelRun> findByInputHashIn(Collection<byte[]> inputHashes);
+
+    /**
+     * Stores new results in one batch. Rows whose digest is already stored are not duplicated.
+     */
+    void saveAll(List<ModelRun> runs);
+}
@@ -0,0 +1,13 @@
+package com.example.dungeongamekata.repository;
+
+/**
+ * Projection of a model_runs row for cache warm-up, without the JSON input.
+ */
+public interface StoredResult {
+
+    Long getId();
+
+    byte[] getInputHash();
+
+    byte[] getOutputBin();
+}
@@ -0,0 +1,32 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE while cache warm-up is running so HAProxy and the compose health
+ * checks hold traffic back from a cold replica. Reports UP once warm-up is over or timed out,
+ * or always when {@code dungeon.cache.local.warmup.gate-readiness} is off.
+ */
+@Component
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final DungeonCacheWarmup warmup;
+    private final boolean gateReadiness;
+
+    public CacheWarmupHealthIndicator(DungeonCacheWarmup warmup, DungeonCacheProperties properties) {
+        this.warmup = warmup;
+        this.gateReadiness = properties.getWarmup().isGateReadiness();
+    }
+
+    @Override
+    public Health health() {
+        Health.Builder builder = !gateReadiness || warmup.isComplete() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("state", warmup.state())
+                .withDetail("loaded", warmup.loaded())
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.example.dungeongamekata.repository.StoredResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills the local result cache from model_runs once the application is ready. Rows are read
+ * newest first in pages of 500, decoded from {@code output_bin} and added until
+ * {@code max-entries} or the timeout is reached, or the next row would go over the cache's cell
+ * budget. Rows still in the legacy JSON format are skipped. Warm-up never fails startup: if the
+ * database is down the replica simply starts cold.
+ */
+@Slf4j
+@Component
+public class DungeonCacheWarmup {
+
+    public enum State { PENDING, RUNNING, DONE, TIMED_OUT, FAILED, DISABLED }
+
+    private final ModelRunRepository modelRunRepository;
+    private final DungeonResultCache resultCache;
+    private final DungeonCacheProperties.Warmup settings;
+    private final boolean enabled;
+    private final long maxCells;
+
+    private volatile State state = State.PENDING;
+    private volatile long deadline = Long.MAX_VALUE;
+    private volatile int loaded;
+
+    public DungeonCacheWarmup(ModelRunRepository modelRunRepository, DungeonResultCache resultCache,
+                              DungeonCacheProperties properties) {
+        this.modelRunRepository = modelRunRepository;
+        this.resultCache = resultCache;
+        this.settings = properties.getWarmup();
+        this.enabled = properties.isEnabled() && settings.isEnabled();
+        this.maxCells = properties.getMaxCells();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        Thread thread = new Thread(this::warmUp, "cache-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Runs warm-up on the calling thread.
+     *
+     * @return the number of results added to the cache
+     */
+    public int warmUp() {
+        long startedAt = System.nanoTime();
+        deadline = startedAt + settings.getTimeout().toNanos();
+        state = State.RUNNING;
+        long cells = 0;
+        int count = 0;
+        try {
+            long lastId = Long.MAX_VALUE;
+            List<StoredResult> page = nextPage(lastId);
+            while (!page.isEmpty()) {
+                for (StoredResult row : page) {
+                    lastId = row.getId();
+                    int rowCells = DungeonResultCodec.cellCount(row.getOutputBin());
+                    if (cells + rowCells > maxCells) {
+                        return finish(State.DONE, startedAt);
+                    }
+                    resultCache.put(GridDigest.fromBytes(row.getInputHash()), rowCells,
+                            DungeonResultCodec.decode(row.getOutputBin()));
+                    cells += rowCells;
+                    loaded = ++count;
+                    if (count >= settings.getMaxEntries()) {
+                        return finish(State.DONE, startedAt);
+                    }
+                }
+                if (System.nanoTime() - deadline > 0) {
+                    return finish(State.TIMED_OUT, startedAt);
+                }
+                page = nextPage(lastId);
+            }
+            return finish(State.DONE, startedAt);
+        } catch (Exception e) {
+            log.warn("Cache warm-up stopped after {} results, starting partly cold: {}", count, e.getMessage());
+            state = State.FAILED;
+            return count;
+        }
+    }
+
+    /**
+     * True once warm-up is over, whatever its outcome, or its timeout has passed.
+     */
+    public boolean isComplete() {
+        State current = state;
+        return current != State.PENDING && (current != State.RUNNING || System.nanoTime() - deadline > 0);
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public int loaded() {
+        return loaded;
+    }
+
+    private List<StoredResult> nextPage(long lastId) {
+        return modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(lastId);
+    }
+
+    private int finish(State outcome, long startedAt) {
+        state = outcome;
+        log.info("Cache warm-up {} with {} results in {} ms", outcome == State.DONE ? "finished" : "timed out",
+                loaded, (System.nanoTime() - startedAt) / 1_000_000);
+        return loaded;
+    }
+}
@@ -0,0 +1,281 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonJobStatus;
+import com.example.dungeongamekata.dto.DungeonJobStatus.State;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.PathChunk;
+import com.example.dungeongamekata.dto.SolveOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * State of one asynchronous solve and the SSE streams subscribed to it. Every transition queues
+ * its events on each subscriber's outbox under the job's lock, so a subscriber joining late first
+ * gets the current state and then exactly the events that follow it. The outboxes are drained
+ * on the {@code events} executor, one task per subscriber at a time: a slow or stalled client
+ * never blocks the solver thread, and no network IO happens under the lock. A progress event
+ * still waiting to be sent is replaced by the next one. At most {@code maxSubscribers} streams
+ * are open on a job at a time, counting late subscribers that are still being sent the outcome.
+ *
+ * <p>Events: {@code progress} with a {@link DungeonJobStatus} as rows complete, {@code result}
+ * with the final status, {@code path} with {@link PathChunk}s once the job is done, then
+ * {@code end}, after which the stream is closed.
+ */
+@Slf4j
+final class DungeonJob {
+
+    private final String id;
+    private final int rows;
+    private final int cols;
+    private final SolveOptions options;
+    private final int pathChunkSize;
+    private final int maxSubscribers;
+    private final Executor events;
+    private final List<Subscriber> subscribers = new ArrayList<>();
+
+    private DungeonGrid grid;
+    private Future<?> future;
+    private State state = State.QUEUED;
+    private int rowsCompleted;
+    private DungeonResponse result;
+    private String error;
+    private long finishedAt;
+    private int openStreams;
+
+    DungeonJob(String id, DungeonGrid grid, SolveOptions options, int pathChunkSize, int maxSubscribers,
+               Executor events) {
+        this.id = id;
+        this.rows = grid.rows();
+        this.cols = grid.cols();
+        this.grid = grid;
+        this.options = options;
+        this.pathChunkSize = pathChunkSize;
+        this.maxSubscribers = maxSubscribers;
+        this.events = events;
+    }
+
+    String id() {
+        return id;
+    }
+
+    SolveOptions options() {
+        return options;
+    }
+
+    synchronized void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    synchronized DungeonJobStatus status() {
+        return new DungeonJobStatus(id, state, rows, cols, rowsCompleted,
+                result == null ? null : result.minimumHP(), error);
+    }
+
+    synchronized boolean isFinished() {
+        return state.isFinished();
+    }
+
+    synchronized boolean isCancelled() {
+        return state == State.CANCELLED;
+    }
+
+    synchronized long finishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Moves the job to RUNNING and hands over its grid, or returns null if it was cancelled
+     * while queued. The job drops its reference so the grid can be collected with the DP table.
+     */
+    synchronized DungeonGrid start() {
+        if (state != State.QUEUED) {
+            return null;
+        }
+        state = State.RUNNING;
+        DungeonGrid started = grid;
+        grid = null;
+        broadcast("progress", status());
+        return started;
+    }
+
+    /**
+     * Progress callback for the solver; throws once the job is cancelled to stop the solve.
+     */
+    synchronized void progress(int completedRows) {
+        if (state == State.CANCELLED) {
+            throw new CancellationException("Job " + id + " was cancelled");
+        }
+        rowsCompleted = completedRows;
+        broadcast("progress", status());
+    }
+
+    synchronized boolean succeed(DungeonResponse response) {
+        if (state.isFinished()) {
+            return false;
+        }
+        result = response;
+        rowsCompleted = rows;
+        finish(State.DONE);
+        return true;
+    }
+
+    synchronized boolean fail(String message) {
+        if (state.isFinished()) {
+            return false;
+        }
+        error = message;
+        finish(State.FAILED);
+        return true;
+    }
+
+    synchronized boolean cancel() {
+        if (state.isFinished()) {
+            return false;
+        }
+        grid = null;
+        if (future != null) {
+            future.cancel(true);
+        }
+        finish(State.CANCELLED);
+        return true;
+    }
+
+    /**
+     * Attaches an SSE stream, or returns false if {@code maxSubscribers} streams are already open.
+     */
+    synchronized boolean subscribe(SseEmitter emitter) {
+        if (openStreams >= maxSubscribers) {
+            return false;
+        }
+        openStreams++;
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        if (state.isFinished()) {
+            queueOutcome(subscriber);
+            return true;
+        }
+        subscribers.add(subscriber);
+        subscriber.queue(new Event("progress", status()));
+        return true;
+    }
+
+    private synchronized void unsubscribe(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.outbox.clear();
+        closed(subscriber);
+    }
+
+    private synchronized void closed(Subscriber subscriber) {
+        if (!subscriber.closed) {
+            subscriber.closed = true;
+            openStreams--;
+        }
+    }
+
+    private void finish(State finalState) {
+        state = finalState;
+        finishedAt = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            queueOutcome(subscriber);
+        }
+        subscribers.clear();
+    }
+
+    private void queueOutcome(Subscriber subscriber) {
+        subscriber.queue(new Event("result", status()));
+        if (result != null && result.path() != null) {
+            Iterator<int[]> cells = result.path().iterator();
+            int offset = 0;
+            while (cells.hasNext()) {
+                List<int[]> chunk = new ArrayList<>(pathChunkSize);
+                while (cells.hasNext() && chunk.size() < pathChunkSize) {
+                    chunk.add(cells.next());
+                }
+                subscriber.queue(new Event("path", new PathChunk(offset, chunk)));
+                offset += chunk.size();
+            }
+        }
+        subscriber.queue(new Event("end", state));
+        subscriber.queue(Event.COMPLETE);
+    }
+
+    private void broadcast(String event, Object data) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.queue(new Event(event, data));
+        }
+    }
+
+    /**
+     * An SSE event waiting in an outbox; {@link #COMPLETE} closes the stream.
+     */
+    private record Event(String name, Object data) {
+
+        static final Event COMPLETE = new Event(null, null);
+    }
+
+    /**
+     * One SSE stream and the events not yet sent to it. The outbox and the {@code draining} and
+     * {@code closed} flags are guarded by the job's lock; only {@link #drain} touches the emitter.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Deque<Event> outbox = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void queue(Event event) {
+            Event last = outbox.peekLast();
+            if (last != null && "progress".equals(last.name()) && "progress".equals(event.name())) {
+                outbox.pollLast();
+            }
+            outbox.addLast(event);
+            if (!draining) {
+                draining = true;
+                events.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Event event;
+                synchronized (DungeonJob.this) {
+                    event = outbox.pollFirst();
+                    if (event == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+                try {
+                    if (event == Event.COMPLETE) {
+                        emitter.complete();
+                        closed(this);
+                    } else {
+                        emitter.send(SseEmitter.event().name(event.name()).data(event.data()));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    log.debug("Job {} subscriber went away: {}", id, e.getMessage());
+                    unsubscribe(this);
+                    emitter.completeWithError(e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonJobProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonJobStatus;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.exception.DungeonJobNotFoundException;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous solves for grids too large to answer within a request timeout. A job is queued
+ * on a dedicated pool and solved with a single-threaded engine, reporting rows as the DP table
+ * fills; subscribers follow it over SSE (see {@link DungeonJob} for the events). Finished jobs
+ * are kept for {@code dungeon.jobs.retention} so a client can reconnect and collect the result.
+ */
+@Slf4j
+@Service
+public class DungeonJobService {
+
+    private final DungeonService dungeonService;
+    private final DungeonJobProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService events;
+    private final Map<String, DungeonJob> jobs = new ConcurrentHashMap<>();
+    private final Counter rejected;
+    private final Counter done;
+    private final Counter failed;
+    private final Counter cancelled;
+
+    public DungeonJobService(DungeonService dungeonService, DungeonJobProperties properties, MeterRegistry meterRegistry) {
+        this.dungeonService = dungeonService;
+        this.properties = properties;
+        int threads = Math.max(1, properties.getMaxActive());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity())), runnable -> {
+                    Thread thread = new Thread(runnable, "dungeon-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        // a stalled client parks a virtual thread in emitter.send, not a platform thread
+        this.events = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dungeon-job-events-", 1).factory());
+        this.rejected = meterRegistry.counter("dungeon.jobs.rejected");
+        this.done = meterRegistry.counter("dungeon.jobs.finished", "outcome", "done");
+        this.failed = meterRegistry.counter("dungeon.jobs.finished", "outcome", "failed");
+        this.cancelled = meterRegistry.counter("dungeon.jobs.finished", "outcome", "cancelled");
+        meterRegistry.gauge("dungeon.jobs.queued", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("dungeon.jobs.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    /**
+     * Queues a solve and returns immediately.
+     *
+     * @throws SolverOverloadedException with 429 if {@code queue-capacity} jobs are already waiting
+     */
+    public DungeonJobStatus submit(DungeonGrid dungeonGrid, SolveOptions options) {
+        evictFinished();
+        DungeonJob job = new DungeonJob(UUID.randomUUID().toString(), dungeonGrid, options,
+                properties.getPathChunkSize(), properties.getMaxSubscribers(), events);
+        jobs.put(job.id(), job);
+        try {
+            job.attach(executor.submit(() -> run(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id());
+            rejected.increment();
+            throw new SolverOverloadedException("Too many solve jobs queued, retry later", HttpStatus.TOO_MANY_REQUESTS);
+        }
+        log.info("Queued dungeon job {} for a {}x{} grid", job.id(), dungeonGrid.rows(), dungeonGrid.cols());
+        return job.status();
+    }
+
+    public DungeonJobStatus status(String jobId) {
+        return find(jobId).status();
+    }
+
+    /**
+     * Opens an SSE stream for the job. Subscribers that join after the job finished receive
+     * the result and path right away.
+     *
+     * @throws SolverOverloadedException with 429 if {@code max-subscribers} streams are already open
+     */
+    public SseEmitter subscribe(String jobId) {
+        DungeonJob job = find(jobId);
+        SseEmitter emitter = new SseEmitter(properties.getStreamTimeout().toMillis());
+        if (!job.subscribe(emitter)) {
+            throw new SolverOverloadedException("Too many subscribers for job " + jobId + ", retry later",
+                    HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return emitter;
+    }
+
+    /**
+     * Cancels a queued or running job; a running solve stops at its next progress report.
+     */
+    public DungeonJobStatus cancel(String jobId) {
+        DungeonJob job = find(jobId);
+        if (job.cancel()) {
+            executor.purge();
+            cancelled.increment();
+            log.info("Cancelled dungeon job {}", jobId);
+        }
+        return job.status();
+    }
+
+    private void run(DungeonJob job) {
+        DungeonGrid dungeonGrid = job.start();
+        if (dungeonGrid == null) {
+            return;
+        }
+        try {
+            if (job.succeed(dungeonService.calculateMinimumHPInBackground(dungeonGrid, job.options(), job::progress))) {
+                done.increment();
+            }
+        } catch (CancellationException e) {
+            log.debug("Dungeon job {} stopped after cancellation", job.id());
+        } catch (RuntimeException e) {
+            if (job.isCancelled()) {
+                // cancelling interrupts the job thread, e.g. while it waits for solver memory
+                log.debug("Dungeon job {} stopped after cancellation: {}", job.id(), e.getMessage());
+                return;
+            }
+            log.error("Dungeon job {} failed: {}", job.id(), e.getMessage(), e);
+            if (job.fail(e.getMessage() != null ? e.getMessage() : "Solve failed")) {
+                failed.increment();
+            }
+        }
+    }
+
+    private DungeonJob find(String jobId) {
+        DungeonJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new DungeonJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * Drops finished jobs past their retention, then the oldest ones beyond {@code max-retained}.
+     * Queued and running jobs are bounded by the pool and never dropped here.
+     */
+    private void evictFinished() {
+        long expiredBefore = System.nanoTime() - properties.getRetention().toNanos();
+        jobs.values().removeIf(job -> job.isFinished() && job.finishedAt() - expiredBefore < 0);
+
+        List<DungeonJob> finishedJobs = jobs.values().stream()
+                .filter(DungeonJob::isFinished)
+                .sorted(Comparator.comparingLong(DungeonJob::finishedAt))
+                .toList();
+        for (int i = 0; i < finishedJobs.size() - properties.getMaxRetained(); i++) {
+            jobs.remove(finishedJobs.get(i).id());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+        events.shutdown();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * L1 cache of solved dungeons, local to each replica and consulted before the database.
+ * Entries are weighed by grid cell count; hit, miss and eviction counters are published
+ * under the {@code cache.*} meters with {@code cache=dungeon.results}.
+ */
+@Component
+public class DungeonResultCache {
+
+    public static final String CACHE_NAME = "dungeon.results";
+
+    private final Cache<GridDigest, CachedResult> cache;
+    private final boolean enabled;
+
+    public DungeonResultCache(DungeonCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxCells())
+                .weigher((GridDigest key, CachedResult value) -> value.cells())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<DungeonResponse> get(GridDigest key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CachedResult cached = cache.getIfPresent(key);
+        return cached == null ? Optional.empty() : Optional.of(cached.response());
+    }
+
+    public void put(GridDigest key, int cells, DungeonResponse response) {
+        if (enabled) {
+            cache.put(key, new CachedResult(response, cells));
+        }
+    }
+
+    private record CachedResult(DungeonResponse response, int cells) {}
+}
@@ -0,0 +1,55 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary form of a solved dungeon for the {@code output_bin} column: a version byte,
+ * big-endian int32 minimumHP, rows and cols, then the path as packed move bits (see
+ * {@link DungeonPath}). A 1000x1000 result takes 263 bytes instead of ~20 KB of JSON, and
+ * decoding only reads the header; the path stays a view over the stored bytes.
+ */
+public final class DungeonResultCodec {
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 1 + 3 * Integer.BYTES;
+
+    private DungeonResultCodec() {
+    }
+
+    public static byte[] encode(DungeonResponse response) {
+        DungeonPath path = DungeonPath.fromCells(response.path());
+        byte[] bytes = new byte[HEADER_BYTES + DungeonPath.moveBytes(path.rows(), path.cols())];
+        ByteBuffer.wrap(bytes)
+                .put(VERSION)
+                .putInt(response.minimumHP())
+                .putInt(path.rows())
+                .putInt(path.cols());
+        path.copyMoves(bytes, HEADER_BYTES);
+        return bytes;
+    }
+
+    /**
+     * Cell count of the solved grid, read from the header alone.
+     */
+    public static int cellCount(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported stored result format");
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes, 1 + Integer.BYTES, 2 * Integer.BYTES);
+        return header.getInt() * header.getInt();
+    }
+
+    public static DungeonResponse decode(byte[] bytes) {
+        if (bytes.length < HEADER_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported stored result format");
+        }
+        ByteBuffer header = ByteBuffer.wrap(bytes, 1, HEADER_BYTES - 1);
+        int minimumHP = header.getInt();
+        int rows = header.getInt();
+        int cols = header.getInt();
+        return new DungeonResponse(minimumHP, DungeonPath.view(rows, cols, bytes, HEADER_BYTES));
+    }
+}
@@ -1,113 +1,517 @@
 package com.example.dungeongamekata.service;
 
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.BatchItemResponse;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
 import com.example.dungeongamekata.dto.DungeonResponse;
 import com.example.dungeongamekata.dto.ModelRun;
-import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.example.dungeongamekata.dto.PathFormat;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import com.example.dungeongamekata.repository.ResultStore;
+import com.example.dungeongamekata.solver.DungeonSolverSelector;
+import com.example.dungeongamekata.solver.SimdDungeonSolver;
+import com.example.dungeongamekata.solver.SolveProgress;
+import com.example.dungeongamekata.solver.SolverExecutor;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Service
 public class DungeonService {
 
-    private final ModelRunRepository modelRunRepository;
+    private final ResultStore resultStore;
+    private final ModelRunWriteBehind modelRunWriteBehind;
     private final ObjectMapper objectMapper;
+    private final DungeonResultCache resultCache;
+    private final SharedResultCache sharedCache;
+    private final boolean sharedCacheEnabled;
+    private final DungeonSolverSelector solvers;
+    private final SolverExecutor solverExecutor;
+    private final SolverMemoryBudget memoryBudget;
+    private final DungeonInputProperties inputLimits;
+    private final SolverProperties.Coalescing coalescing;
+    private final int packMaxCells;
+    private final Map<GridDigest, CompletableFuture<DungeonResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedRequests;
+    private final Counter coalesceTimeouts;
+    private final Timer keyStage;
+    private final Timer cacheStage;
+    private final Timer sharedStage;
+    private final Timer storeStage;
+    private final Timer persistenceStage;
+    private final DistributionSummary gridCells;
+    private final Counter storeHits;
+    private final Counter storeMisses;
+    private final Counter storeErrors;
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+    private final Counter sharedErrors;
 
-    public DungeonService(ModelRunRepository modelRunRepository, ObjectMapper objectMapper) {
-        this.modelRunRepository = modelRunRepository;
+    public DungeonService(ResultStore resultStore, ModelRunWriteBehind modelRunWriteBehind,
+                          ObjectMapper objectMapper, DungeonResultCache resultCache, SharedResultCache sharedCache,
+                          DungeonSolverSelector solvers,
+                          SolverExecutor solverExecutor, SolverMemoryBudget memoryBudget,
+                          SolverProperties solverProperties, DungeonInputProperties inputProperties,
+                          MeterRegistry meterRegistry) {
+        this.resultStore = resultStore;
+        this.modelRunWriteBehind = modelRunWriteBehind;
         this.objectMapper = objectMapper;
+        this.resultCache = resultCache;
+        this.sharedCache = sharedCache;
+        this.sharedCacheEnabled = sharedCache != SharedResultCache.NONE;
+        this.solvers = solvers;
+        this.solverExecutor = solverExecutor;
+        this.memoryBudget = memoryBudget;
+        this.inputLimits = inputProperties;
+        this.coalescing = solverProperties.getCoalescing();
+        this.packMaxCells = solverProperties.getSimd().getPackMaxCells();
+        this.coalescedRequests = meterRegistry.counter("dungeon.solve.coalesced");
+        this.coalesceTimeouts = meterRegistry.counter("dungeon.solve.coalesce.timeouts");
+        this.keyStage = stageTimer(meterRegistry, "key");
+        this.cacheStage = stageTimer(meterRegistry, "cache");
+        this.sharedStage = stageTimer(meterRegistry, "shared");
+        this.storeStage = stageTimer(meterRegistry, "store");
+        this.persistenceStage = stageTimer(meterRegistry, "persistence");
+        this.gridCells = DistributionSummary.builder("dungeon.grid.cells")
+                .description("Cells per solved grid")
+                .baseUnit("cells")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.storeHits = meterRegistry.counter("dungeon.store.lookups", "result", "hit");
+        this.storeMisses = meterRegistry.counter("dungeon.store.lookups", "result", "miss");
+        this.storeErrors = meterRegistry.counter("dungeon.store.lookups", "result", "error");
+        this.sharedHits = meterRegistry.counter("dungeon.cache.shared.lookups", "result", "hit");
+        this.sharedMisses = meterRegistry.counter("dungeon.cache.shared.lookups", "result", "miss");
+        this.sharedErrors = meterRegistry.counter("dungeon.cache.shared.lookups", "result", "error");
     }
 
-    public DungeonResponse calculateMinimumHP(int[][] dungeonGrid) {
-        String inputJson;
+    /**
+     * Request-side stages, published as {@code dungeon.solve.stage}. DP and path timings come
+     * from the solvers themselves as {@code dungeon.solver.stage}.
+     */
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("dungeon.solve.stage")
+                .description("Time spent per solve pipeline stage")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public DungeonResponse calculateMinimumHP(DungeonGrid dungeonGrid) {
+        return calculateMinimumHP(dungeonGrid, SolveOptions.DEFAULT);
+    }
+
+    public DungeonResponse calculateMinimumHP(DungeonGrid dungeonGrid, SolveOptions options) {
+        gridCells.record(dungeonGrid.cellCount());
+        GridDigest key = keyStage.record(() -> GridDigest.of(dungeonGrid));
+
+        Optional<DungeonResponse> localResult = cacheStage.record(() -> resultCache.get(key));
+        if (localResult.isPresent()) {
+            return withRequestedPath(localResult.get(), options);
+        }
+
+        if (!coalescing.isEnabled()) {
+            return withRequestedPath(loadOrSolve(key, dungeonGrid, options), options);
+        }
+
+        // Only full solves lead; a path-less request may join one but never publishes its own answer.
+        // If the leader fails for any reason but overload, its followers elect one new leader.
+        CompletableFuture<DungeonResponse> failedLeader = null;
+        while (true) {
+            CompletableFuture<DungeonResponse> leader = new CompletableFuture<>();
+            CompletableFuture<DungeonResponse> inFlightSolve = options.includePath()
+                    ? inFlight.putIfAbsent(key, leader)
+                    : inFlight.get(key);
+            if (inFlightSolve == null) {
+                if (failedLeader != null) {
+                    // a replacement leader may already have finished
+                    Optional<DungeonResponse> cached = resultCache.get(key);
+                    if (cached.isPresent()) {
+                        inFlight.remove(key, leader);
+                        return withRequestedPath(cached.get(), options);
+                    }
+                }
+                return options.includePath()
+                        ? lead(key, dungeonGrid, options, leader)
+                        : withRequestedPath(loadOrSolve(key, dungeonGrid, options), options);
+            }
+            if (inFlightSolve == failedLeader) {
+                // not yet removed by the failed leader itself
+                inFlight.remove(key, failedLeader);
+                continue;
+            }
+            Optional<DungeonResponse> shared = awaitInFlight(inFlightSolve);
+            if (shared.isPresent()) {
+                return withRequestedPath(shared.get(), options);
+            }
+            if (failedLeader != null || !inFlightSolve.isCompletedExceptionally()) {
+                return withRequestedPath(loadOrSolve(key, dungeonGrid, options), options);
+            }
+            failedLeader = inFlightSolve;
+            inFlight.remove(key, failedLeader);
+        }
+    }
+
+    private DungeonResponse lead(GridDigest key, DungeonGrid dungeonGrid, SolveOptions options,
+                                 CompletableFuture<DungeonResponse> leader) {
         try {
-            inputJson = objectMapper.writeValueAsString(dungeonGrid);
-        } catch (Exception e) {
-            log.error("Error processing JSON for dungeon calculation", e);
-            throw new RuntimeException("Error processing JSON", e);
+            DungeonResponse response = loadOrSolve(key, dungeonGrid, options);
+            leader.complete(response);
+            return withRequestedPath(response, options);
+        } catch (RuntimeException e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Returns the result as cached and stored, with the path as cells; callers shape it for the
+     * request with {@link #withRequestedPath} so a coalesced leader always publishes the full answer.
+     */
+    private DungeonResponse loadOrSolve(GridDigest key, DungeonGrid dungeonGrid, SolveOptions options) {
+        Optional<DungeonResponse> sharedResult = getSharedResult(key);
+        if (sharedResult.isPresent()) {
+            resultCache.put(key, dungeonGrid.cellCount(), sharedResult.get());
+            return sharedResult.get();
         }
 
-        Optional<DungeonResponse> cachedResult = getCachedResult(inputJson);
+        Optional<DungeonResponse> cachedResult = getCachedResult(key, dungeonGrid);
         if (cachedResult.isPresent()) {
+            cacheResult(key, dungeonGrid, cachedResult.get());
             return cachedResult.get();
         }
 
-        DungeonResponse response = executeCalculateMinimumHP(dungeonGrid);
-        try {
-            saveCacheResult(inputJson, response);
-        } catch (Exception e) {
-            log.warn("Database unavailable for caching result, returning calculated response: {}", e.getMessage());
+        // A path-less answer is never cached, so later path requests cannot be served from it
+        if (!options.includePath()) {
+            return new DungeonResponse(solverExecutor.execute(() -> solvers.lowMemory().minimumHP(dungeonGrid)), null);
         }
 
+        DungeonResponse response = solverExecutor.execute(() -> solveWithinBudget(dungeonGrid, options));
+        cacheResult(key, dungeonGrid, response);
+        persistenceStage.record(() -> modelRunWriteBehind.enqueue(key, dungeonGrid, response));
+
         return response;
     }
 
-    private Optional<DungeonResponse> getCachedResult(String inputJson) {
+    /**
+     * Solve for a background job on the caller's thread instead of the admission pool; jobs are
+     * bounded by their own pool. Cached and stored results are reused, and a new result is
+     * cached and persisted like any other solve.
+     */
+    public DungeonResponse calculateMinimumHPInBackground(DungeonGrid dungeonGrid, SolveOptions options,
+                                                          SolveProgress progress) {
+        gridCells.record(dungeonGrid.cellCount());
+        GridDigest key = keyStage.record(() -> GridDigest.of(dungeonGrid));
+
+        Optional<DungeonResponse> localResult = cacheStage.record(() -> resultCache.get(key));
+        if (localResult.isPresent()) {
+            progress.rowsCompleted(dungeonGrid.rows());
+            return localResult.get();
+        }
+        Optional<DungeonResponse> sharedResult = getSharedResult(key);
+        if (sharedResult.isPresent()) {
+            resultCache.put(key, dungeonGrid.cellCount(), sharedResult.get());
+            progress.rowsCompleted(dungeonGrid.rows());
+            return sharedResult.get();
+        }
+        Optional<DungeonResponse> cachedResult = getCachedResult(key, dungeonGrid);
+        if (cachedResult.isPresent()) {
+            cacheResult(key, dungeonGrid, cachedResult.get());
+            progress.rowsCompleted(dungeonGrid.rows());
+            return cachedResult.get();
+        }
+
+        DungeonResponse response;
+        try (SolverMemoryBudget.Reservation reservation =
+                     memoryBudget.reserveWaiting(dungeonGrid, solvers.sequential(dungeonGrid, options))) {
+            response = reservation.solver().solve(dungeonGrid, progress);
+        }
+        cacheResult(key, dungeonGrid, response);
+        persistenceStage.record(() -> modelRunWriteBehind.enqueue(key, dungeonGrid, response));
+        return response;
+    }
+
+    /**
+     * Solves with the selected engine, or the low-memory one if {@link SolverMemoryBudget} moves it there.
+     */
+    private DungeonResponse solveWithinBudget(DungeonGrid dungeonGrid, SolveOptions options) {
+        try (SolverMemoryBudget.Reservation reservation =
+                     memoryBudget.reserve(dungeonGrid, solvers.select(dungeonGrid, options))) {
+            return reservation.solver().solve(dungeonGrid);
+        }
+    }
+
+    /**
+     * Waits for the in-flight solve. Empty if it timed out or failed; an overload or memory budget
+     * rejection is passed on instead, so followers do not pile onto a saturated solver.
+     */
+    private Optional<DungeonResponse> awaitInFlight(CompletableFuture<DungeonResponse> inFlightSolve) {
+        coalescedRequests.increment();
         try {
-            Optional<ModelRun> existingRun = modelRunRepository.findByInput(inputJson);
-            if (existingRun.isPresent()) {
-                return Optional.of(objectMapper.readValue(existingRun.get().getOutput(), DungeonResponse.class));
+            return Optional.of(inFlightSolve.get(coalescing.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            coalesceTimeouts.increment();
+            log.warn("Timed out waiting for in-flight solve, calculating independently");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SolverOverloadedException overloaded) {
+                throw new SolverOverloadedException(overloaded.getMessage(), overloaded.getStatus());
             }
-        } catch (Exception e) {
-            log.warn("Database unavailable for cache lookup, proceeding with calculation: {}", e.getMessage());
+            log.warn("In-flight solve failed: {}", e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight solve", e);
         }
         return Optional.empty();
     }
 
-    private void saveCacheResult(String inputJson, DungeonResponse response) throws JsonProcessingException {
-        String outputJson = objectMapper.writeValueAsString(response);
-        modelRunRepository.save(ModelRun.of(inputJson, outputJson));
+    private static DungeonResponse withRequestedPath(DungeonResponse response, SolveOptions options) {
+        if (!options.includePath()) {
+            return new DungeonResponse(response.minimumHP(), null);
+        }
+        if (options.pathFormat() == PathFormat.MOVES) {
+            return new DungeonResponse(response.minimumHP(), null, DungeonPath.fromCells(response.path()).toMoves());
+        }
+        return response;
     }
 
     /**
-     * Calculate the minimum initial health required to rescue the princess in the dungeon.
-     * @param dungeon
-     * @return
+     * Solve many dungeons in one call. Identical grids are solved once, stored results are
+     * fetched with a single IN query, and misses are solved in parallel and handed to the
+     * write-behind queue. Results come back in request order; an invalid or failing grid only fails its entry.
      */
-    private DungeonResponse executeCalculateMinimumHP(int[][] dungeon) {
-        int m = dungeon.length;
-        int n = dungeon[0].length;
+    public List<BatchItemResponse> calculateMinimumHPBatch(List<int[][]> dungeons) {
+        BatchItemResponse[] results = new BatchItemResponse[dungeons.size()];
+        GridDigest[] keys = new GridDigest[dungeons.size()];
+        Map<GridDigest, DungeonGrid> grids = new LinkedHashMap<>();
 
-        int[][] dp = new int[m+1][n+1];
+        for (int index = 0; index < dungeons.size(); index++) {
+            try {
+                DungeonGrid grid = DungeonGrid.of(dungeons.get(index), inputLimits);
+                gridCells.record(grid.cellCount());
+                keys[index] = keyStage.record(() -> GridDigest.of(grid));
+                grids.putIfAbsent(keys[index], grid);
+            } catch (InvalidDungeonInputException e) {
+                results[index] = BatchItemResponse.failure(index, e.getMessage());
+            }
+        }
 
-        for (int i = 0; i <= m; i++)
-            Arrays.fill(dp[i], Integer.MAX_VALUE);
+        Map<GridDigest, DungeonResponse> solved = new HashMap<>();
+        List<GridDigest> pending = new ArrayList<>();
+        cacheStage.record(() -> {
+            for (GridDigest key : grids.keySet()) {
+                resultCache.get(key).ifPresentOrElse(response -> solved.put(key, response), () -> pending.add(key));
+            }
+        });
+
+        Map<GridDigest, DungeonResponse> shared = getSharedResults(pending);
+        shared.forEach((key, response) -> resultCache.put(key, grids.get(key).cellCount(), response));
+        solved.putAll(shared);
+        pending.removeAll(shared.keySet());
 
-        dp[m][n-1] = 1;
-        dp[m-1][n] = 1;
+        Map<GridDigest, DungeonResponse> stored = storeStage.record(() -> getCachedResults(pending, grids));
+        stored.forEach((key, response) -> cacheResult(key, grids.get(key), response));
+        solved.putAll(stored);
 
-        for (int i = m-1; i >= 0; i--) {
-            for (int j = n-1; j >= 0; j--) {
-                int minHp = Math.min(dp[i+1][j], dp[i][j+1])  - dungeon[i][j];
-                dp[i][j] = (minHp <= 0) ? 1 : minHp;
+        Map<GridDigest, DungeonResponse> computed = new ConcurrentHashMap<>();
+        Map<GridDigest, String> failures = new ConcurrentHashMap<>();
+        List<GridDigest> misses = pending.stream().filter(key -> !stored.containsKey(key)).toList();
+        // The whole batch takes one solver slot; its misses still fan out over the common pool
+        if (!misses.isEmpty()) {
+            List<List<GridDigest>> units = solveUnits(misses, grids);
+            solverExecutor.execute(() -> {
+                units.parallelStream().forEach(unit -> solveUnit(unit, grids, computed, failures));
+                return null;
+            });
+        }
+        computed.forEach((key, response) -> cacheResult(key, grids.get(key), response));
+        persistenceStage.record(() -> computed.forEach((key, response) ->
+                modelRunWriteBehind.enqueue(key, grids.get(key), response)));
+        solved.putAll(computed);
+
+        for (int index = 0; index < results.length; index++) {
+            if (results[index] == null) {
+                DungeonResponse response = solved.get(keys[index]);
+                results[index] = response != null
+                        ? BatchItemResponse.success(index, response)
+                        : BatchItemResponse.failure(index, failures.get(keys[index]));
             }
         }
+        return List.of(results);
+    }
+
+    /**
+     * Groups batch misses into units of work: small grids of one shape go together, up to one
+     * per SIMD lane, so they are solved in a single vector pass. Everything else is its own unit.
+     */
+    private List<List<GridDigest>> solveUnits(List<GridDigest> misses, Map<GridDigest, DungeonGrid> grids) {
+        SimdDungeonSolver simd = solvers.simd();
+        if (!simd.isVectorized() || packMaxCells <= 0) {
+            return misses.stream().map(List::of).toList();
+        }
+        List<List<GridDigest>> units = new ArrayList<>();
+        Map<Long, List<GridDigest>> byShape = new LinkedHashMap<>();
+        for (GridDigest key : misses) {
+            DungeonGrid grid = grids.get(key);
+            if (grid.cellCount() > packMaxCells) {
+                units.add(List.of(key));
+                continue;
+            }
+            List<GridDigest> group = byShape.computeIfAbsent(((long) grid.rows() << 32) | grid.cols(),
+                    shape -> new ArrayList<>());
+            group.add(key);
+            if (group.size() == simd.lanes()) {
+                units.add(List.copyOf(group));
+                group.clear();
+            }
+        }
+        byShape.values().stream().filter(group -> !group.isEmpty()).forEach(group -> units.add(List.copyOf(group)));
+        return units;
+    }
+
+    private void solveUnit(List<GridDigest> unit, Map<GridDigest, DungeonGrid> grids,
+                           Map<GridDigest, DungeonResponse> computed, Map<GridDigest, String> failures) {
+        List<DungeonGrid> unitGrids = unit.stream().map(grids::get).toList();
+        try {
+            if (unit.size() == 1) {
+                computed.put(unit.get(0), solveWithinBudget(unitGrids.get(0), SolveOptions.DEFAULT));
+                return;
+            }
+            List<DungeonResponse> responses = solvers.simd().solvePacked(unitGrids);
+            for (int i = 0; i < unit.size(); i++) {
+                computed.put(unit.get(i), responses.get(i));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Batch solve failed for {}: {}", unit.size() == 1 ? unitGrids.get(0) : unitGrids, e.getMessage());
+            unit.forEach(key -> failures.put(key, "Failed to solve dungeon"));
+        }
+    }
+
+    /**
+     * Adds a result loaded from the database or freshly solved to the local and shared caches.
+     */
+    private void cacheResult(GridDigest key, DungeonGrid dungeonGrid, DungeonResponse response) {
+        resultCache.put(key, dungeonGrid.cellCount(), response);
+        if (!sharedCacheEnabled) {
+            return;
+        }
+        try {
+            sharedStage.record(() -> sharedCache.put(key, response));
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache unavailable, result not shared: {}", e.getMessage());
+        }
+    }
 
-        List<int[]> path = new ArrayList<>();
-        int i = 0, j = 0;
-        while (i < m && j < n) {
-            path.add(new int[]{i, j});
-            if (i == m - 1 && j == n - 1) break;
+    private Optional<DungeonResponse> getSharedResult(GridDigest key) {
+        if (!sharedCacheEnabled) {
+            return Optional.empty();
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Optional<DungeonResponse> result = sharedCache.get(key);
+            (result.isPresent() ? sharedHits : sharedMisses).increment();
+            return result;
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache unavailable for lookup, falling back to the database: {}", e.getMessage());
+            return Optional.empty();
+        } finally {
+            sample.stop(sharedStage);
+        }
+    }
 
-            if (i + 1 < m && j + 1 < n) {
-                if (dp[i + 1][j] < dp[i][j + 1]) {
-                    i++;
-                } else {
-                    j++;
+    private Map<GridDigest, DungeonResponse> getSharedResults(List<GridDigest> keys) {
+        if (!sharedCacheEnabled || keys.isEmpty()) {
+            return Map.of();
+        }
+        Timer.Sample sample = Timer.start();
+        try {
+            Map<GridDigest, DungeonResponse> found = sharedCache.getAll(keys);
+            sharedHits.increment(found.size());
+            sharedMisses.increment(keys.size() - found.size());
+            return found;
+        } catch (RuntimeException e) {
+            sharedErrors.increment();
+            log.warn("Shared cache unavailable for batch lookup, falling back to the database: {}", e.getMessage());
+            return Map.of();
+        } finally {
+            sample.stop(sharedStage);
+        }
+    }
+
+    private Optional<DungeonResponse> getCachedResult(GridDigest key, DungeonGrid dungeonGrid) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Optional<ModelRun> existingRun = resultStore.findByInputHash(key.toBytes());
+            Optional<DungeonResponse> result = existingRun.isPresent()
+                    ? readVerifiedOutput(existingRun.get(), key, dungeonGrid)
+                    : Optional.empty();
+            (result.isPresent() ? storeHits : storeMisses).increment();
+            return result;
+        } catch (Exception e) {
+            storeErrors.increment();
+            log.warn("Database unavailable for cache lookup, proceeding with calculation: {}", e.getMessage());
+            return Optional.empty();
+        } finally {
+            sample.stop(storeStage);
+        }
+    }
+
+    private Map<GridDigest, DungeonResponse> getCachedResults(List<GridDigest> keys, Map<GridDigest, DungeonGrid> grids) {
+        Map<GridDigest, DungeonResponse> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        try {
+            List<byte[]> hashes = keys.stream().map(GridDigest::toBytes).toList();
+            for (ModelRun run : resultStore.findByInputHashIn(hashes)) {
+                GridDigest key = GridDigest.fromBytes(run.getInputHash());
+                DungeonGrid grid = grids.get(key);
+                if (grid != null) {
+                    readVerifiedOutput(run, key, grid).ifPresent(response -> found.put(key, response));
                 }
-            } else if (i + 1 < m) {
-                i++;
-            } else {
-                j++;
             }
+            storeHits.increment(found.size());
+            storeMisses.increment(keys.size() - found.size());
+        } catch (Exception e) {
+            storeErrors.increment();
+            log.warn("Database unavailable for batch cache lookup, proceeding with calculation: {}", e.getMessage());
         }
+        return found;
+    }
 
-        return new DungeonResponse(dp[0][0], path);
+    private Optional<DungeonResponse> readVerifiedOutput(ModelRun run, GridDigest key, DungeonGrid dungeonGrid)
+            throws JsonProcessingException {
+        if (!DungeonGrid.of(objectMapper.readValue(run.getInput(), int[][].class)).equals(dungeonGrid)) {
+            log.warn("Digest collision on model run {} for key {}, recalculating", run.getId(), key);
+            return Optional.empty();
+        }
+        return Optional.of(run.getOutputBin() != null
+                ? DungeonResultCodec.decode(run.getOutputBin())
+                : objectMapper.readValue(run.getOutput(), DungeonResponse.class));
     }
 }
@@ -0,0 +1,120 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonSessionProperties;
+import com.example.dungeongamekata.dto.CellEdit;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.DungeonSessionResponse;
+import com.example.dungeongamekata.exception.DungeonSessionNotFoundException;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.example.dungeongamekata.solver.DungeonSession;
+import com.example.dungeongamekata.solver.SolverExecutor;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Solve sessions for the level editor. Creating a session solves the grid once and keeps its
+ * DP table; each batch of cell edits then recomputes only the affected region. Edited grids
+ * are not written to model_runs, since intermediate editor states are rarely requested again.
+ *
+ * <p>A session's DP table is reserved from {@link SolverMemoryBudget} while it is being solved or
+ * edited. Idle sessions count only against the session cache's own {@code max-cells}, so they
+ * never hold solver memory. A grid larger than the whole session cache would be evicted as soon
+ * as it is stored, so it is rejected up front.
+ */
+@Slf4j
+@Service
+public class DungeonSessionService {
+
+    public static final String CACHE_NAME = "dungeon.sessions";
+
+    private final Cache<String, OpenSession> sessions;
+    private final SolverExecutor solverExecutor;
+    private final SolverMemoryBudget memoryBudget;
+    private final long maxCells;
+    private final DistributionSummary recomputedCells;
+
+    public DungeonSessionService(DungeonSessionProperties properties, SolverExecutor solverExecutor,
+                                 SolverMemoryBudget memoryBudget, MeterRegistry meterRegistry) {
+        this.solverExecutor = solverExecutor;
+        this.memoryBudget = memoryBudget;
+        this.maxCells = properties.getMaxCells();
+        this.sessions = Caffeine.newBuilder()
+                .maximumWeight(maxCells)
+                .weigher((String id, OpenSession open) -> open.session().cellCount())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, sessions, CACHE_NAME);
+        this.recomputedCells = DistributionSummary.builder("dungeon.session.recomputed.cells")
+                .description("DP cells recomputed per session edit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws InvalidDungeonInputException if the grid alone exceeds {@code dungeon.session.max-cells}
+     */
+    public DungeonSessionResponse create(DungeonGrid dungeonGrid) {
+        if (dungeonGrid.cellCount() > maxCells) {
+            throw new InvalidDungeonInputException(
+                    "Dungeon exceeds the session maximum of " + maxCells + " cells");
+        }
+        long tableCells = (long) (dungeonGrid.rows() + 1) * (dungeonGrid.cols() + 1);
+        DungeonSession session;
+        try (SolverMemoryBudget.Reservation memory = memoryBudget.reserveCells(tableCells)) {
+            session = solverExecutor.execute(() -> DungeonSession.start(dungeonGrid));
+        }
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, new OpenSession(session, tableCells, new ReentrantLock()));
+        log.info("Opened dungeon session {} for a {}x{} grid", sessionId, dungeonGrid.rows(), dungeonGrid.cols());
+        return response(sessionId, session, dungeonGrid.cellCount());
+    }
+
+    public DungeonSessionResponse edit(String sessionId, List<CellEdit> edits) {
+        OpenSession open = find(sessionId);
+        DungeonSession session = open.session();
+        // Edits to one session are applied in arrival order; other sessions are unaffected. A lock
+        // rather than synchronized, so a virtual request thread waiting on the solve does not pin
+        // its carrier.
+        open.lock().lock();
+        try (SolverMemoryBudget.Reservation memory = memoryBudget.reserveCells(open.tableCells())) {
+            long recomputed = solverExecutor.execute(() -> session.apply(edits));
+            recomputedCells.record(recomputed);
+            return response(sessionId, session, recomputed);
+        } finally {
+            open.lock().unlock();
+        }
+    }
+
+    public void close(String sessionId) {
+        sessions.invalidate(sessionId);
+    }
+
+    private OpenSession find(String sessionId) {
+        OpenSession open = sessions.getIfPresent(sessionId);
+        if (open == null) {
+            throw new DungeonSessionNotFoundException(sessionId);
+        }
+        return open;
+    }
+
+    private static DungeonSessionResponse response(String sessionId, DungeonSession session, long recomputed) {
+        DungeonResponse response = session.response();
+        return new DungeonSessionResponse(sessionId, response.minimumHP(), response.path(), recomputed);
+    }
+
+    /**
+     * A cached session, the size of its DP table and the lock that orders its edits.
+     */
+    private record OpenSession(DungeonSession session, long tableCells, ReentrantLock lock) {}
+}
@@ -0,0 +1,85 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Fixed-width SHA-256 key of a dungeon grid, computed straight over the dimensions and
+ * the big-endian int32 cells so no JSON rendering of the grid is needed for lookups.
+ */
+public final class GridDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_BYTES = 8192;
+
+    private final byte[] bytes;
+    private final int hashCode;
+
+    private GridDigest(byte[] bytes) {
+        this.bytes = bytes;
+        this.hashCode = Arrays.hashCode(bytes);
+    }
+
+    public static GridDigest of(DungeonGrid grid) {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+        IntBuffer ints = buffer.asIntBuffer();
+
+        ints.put(grid.rows()).put(grid.cols());
+        int[] cells = grid.cells();
+        int offset = 0;
+        while (offset < cells.length) {
+            if (!ints.hasRemaining()) {
+                flush(digest, buffer, ints);
+            }
+            int length = Math.min(ints.remaining(), cells.length - offset);
+            ints.put(cells, offset, length);
+            offset += length;
+        }
+        flush(digest, buffer, ints);
+
+        return new GridDigest(digest.digest());
+    }
+
+    public static GridDigest fromBytes(byte[] bytes) {
+        return new GridDigest(bytes.clone());
+    }
+
+    public byte[] toBytes() {
+        return bytes.clone();
+    }
+
+    private static void flush(MessageDigest digest, ByteBuffer buffer, IntBuffer ints) {
+        digest.update(buffer.array(), 0, ints.position() * Integer.BYTES);
+        ints.clear();
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof GridDigest other && Arrays.equals(bytes, other.bytes));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonSharedCacheProperties;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Optional;
+
+/**
+ * In-process stand-in for the shared cache. Results are kept in their stored binary form, as
+ * they would be on a remote server, so callers see the same copies and bounds.
+ */
+public class InMemorySharedResultCache implements SharedResultCache {
+
+    private final Cache<GridDigest, byte[]> cache;
+
+    public InMemorySharedResultCache(DungeonSharedCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxEntries())
+                .expireAfterWrite(properties.getTtl())
+                .build();
+    }
+
+    @Override
+    public Optional<DungeonResponse> get(GridDigest key) {
+        return Optional.ofNullable(cache.getIfPresent(key)).map(DungeonResultCodec::decode);
+    }
+
+    @Override
+    public void put(GridDigest key, DungeonResponse response) {
+        cache.put(key, DungeonResultCodec.encode(response));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.ModelRun;
+import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off migration that fills {@code input_hash} for rows written before lookups moved to
+ * the grid digest. Enable with {@code dungeon.store.backfill-hashes=true} on a single replica.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "dungeon.store", name = "backfill-hashes", havingValue = "true")
+public class ModelRunHashBackfill implements ApplicationRunner {
+
+    private final ModelRunRepository modelRunRepository;
+    private final ObjectMapper objectMapper;
+
+    public ModelRunHashBackfill(ModelRunRepository modelRunRepository, ObjectMapper objectMapper) {
+        this.modelRunRepository = modelRunRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int updated = 0;
+        List<ModelRun> page = modelRunRepository.findTop500ByInputHashIsNullAndIdGreaterThanOrderByIdAsc(lastId);
+        while (!page.isEmpty()) {
+            for (ModelRun run : page) {
+                try {
+                    DungeonGrid grid = DungeonGrid.of(objectMapper.readValue(run.getInput(), int[][].class));
+                    run.setInputHash(GridDigest.of(grid).toBytes());
+                    modelRunRepository.save(run);
+                    updated++;
+                } catch (Exception e) {
+                    log.warn("Skipping model run {} during digest backfill: {}", run.getId(), e.getMessage());
+                }
+                lastId = run.getId();
+            }
+            page = modelRunRepository.findTop500ByInputHashIsNullAndIdGreaterThanOrderByIdAsc(lastId);
+        }
+        log.info("Digest backfill finished, {} model runs updated", updated);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.ModelRun;
+import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * One-off migration that rewrites JSON {@code output} values into {@code output_bin} and
+ * clears the text column. Enable with {@code dungeon.store.backfill-outputs=true} on a single replica.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "dungeon.store", name = "backfill-outputs", havingValue = "true")
+public class ModelRunOutputBackfill implements ApplicationRunner {
+
+    private final ModelRunRepository modelRunRepository;
+    private final ObjectMapper objectMapper;
+
+    public ModelRunOutputBackfill(ModelRunRepository modelRunRepository, ObjectMapper objectMapper) {
+        this.modelRunRepository = modelRunRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastId = 0;
+        int updated = 0;
+        List<ModelRun> page = modelRunRepository.findTop500ByOutputBinIsNullAndIdGreaterThanOrderByIdAsc(lastId);
+        while (!page.isEmpty()) {
+            for (ModelRun run : page) {
+                try {
+                    DungeonResponse response = objectMapper.readValue(run.getOutput(), DungeonResponse.class);
+                    run.setOutputBin(DungeonResultCodec.encode(response));
+                    run.setOutput(null);
+                    modelRunRepository.save(run);
+                    updated++;
+                } catch (Exception e) {
+                    log.warn("Skipping model run {} during output backfill: {}", run.getId(), e.getMessage());
+                }
+                lastId = run.getId();
+            }
+            page = modelRunRepository.findTop500ByOutputBinIsNullAndIdGreaterThanOrderByIdAsc(lastId);
+        }
+        log.info("Output backfill finished, {} model runs updated", updated);
+    }
+}
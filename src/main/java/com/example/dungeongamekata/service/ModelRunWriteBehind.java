@@ -0,0 +1,196 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonStoreProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.ModelRun;
+import com.example.dungeongamekata.repository.ResultStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded write-behind queue for solved dungeons. Pending results are keyed by grid digest so
+ * repeated submissions coalesce into one row, and are flushed by a single background thread
+ * whenever a batch fills up or the flush interval elapses. JSON rendering happens on that
+ * thread too, so a cache miss only costs the request its compute time.
+ *
+ * <p>Each pending result holds its grid until it is flushed, so the queue is bounded by total
+ * grid cells as well as by entries; a result that would go over either limit is dropped, as is
+ * one that arrives after {@link #shutdown} has started.
+ */
+@Slf4j
+@Component
+public class ModelRunWriteBehind {
+
+    private final ResultStore resultStore;
+    private final ObjectMapper objectMapper;
+    private final DungeonStoreProperties.WriteBehind settings;
+    private final Map<GridDigest, PendingRun> pending = new ConcurrentHashMap<>();
+    private final AtomicLong pendingCells = new AtomicLong();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    private final Counter enqueued;
+    private final Counter coalesced;
+    private final Counter droppedFull;
+    private final Counter droppedCells;
+    private final Counter droppedClosed;
+    private final Counter written;
+    private final Counter failed;
+    private final Timer batchWrite;
+
+    public ModelRunWriteBehind(ResultStore resultStore, ObjectMapper objectMapper,
+                               DungeonStoreProperties properties, MeterRegistry meterRegistry) {
+        this.resultStore = resultStore;
+        this.objectMapper = objectMapper;
+        this.settings = properties.getWriteBehind();
+
+        this.enqueued = meterRegistry.counter("dungeon.persistence.enqueued");
+        this.coalesced = meterRegistry.counter("dungeon.persistence.coalesced");
+        this.droppedFull = meterRegistry.counter("dungeon.persistence.dropped", "reason", "queue_full");
+        this.droppedCells = meterRegistry.counter("dungeon.persistence.dropped", "reason", "cell_budget");
+        this.droppedClosed = meterRegistry.counter("dungeon.persistence.dropped", "reason", "shutdown");
+        this.written = meterRegistry.counter("dungeon.persistence.written");
+        this.failed = meterRegistry.counter("dungeon.persistence.failed");
+        this.batchWrite = Timer.builder("dungeon.persistence.batch.write")
+                .description("Serialization and insert time per flushed batch")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("dungeon.persistence.pending", pending, Map::size).register(meterRegistry);
+        Gauge.builder("dungeon.persistence.pending.cells", pendingCells, AtomicLong::get).register(meterRegistry);
+
+        if (settings.isEnabled()) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "model-run-writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = settings.getFlushInterval().toMillis();
+            flusher.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    public void enqueue(GridDigest key, DungeonGrid grid, DungeonResponse response) {
+        PendingRun run = new PendingRun(key, grid, response);
+        if (!settings.isEnabled()) {
+            write(List.of(run));
+            return;
+        }
+        if (closed) {
+            droppedClosed.increment();
+            log.debug("Write-behind is shutting down, dropping result for {}", key);
+            return;
+        }
+        if (pending.containsKey(key)) {
+            coalesced.increment();
+            return;
+        }
+        if (pending.size() >= settings.getQueueCapacity()) {
+            droppedFull.increment();
+            return;
+        }
+        long cells = run.cells();
+        if (pendingCells.addAndGet(cells) > settings.getMaxPendingCells()) {
+            pendingCells.addAndGet(-cells);
+            droppedCells.increment();
+            return;
+        }
+        if (pending.putIfAbsent(key, run) != null) {
+            pendingCells.addAndGet(-cells);
+            coalesced.increment();
+            return;
+        }
+        enqueued.increment();
+        if (pending.size() >= settings.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            try {
+                flusher.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // shutdown started after the closed check; its final flush writes what is pending
+                log.debug("Write-behind is shutting down, leaving {} results to the final flush", pending.size());
+            }
+        }
+    }
+
+    void flush() {
+        flushRequested.set(false);
+        try {
+            while (!pending.isEmpty()) {
+                List<PendingRun> batch = new ArrayList<>(settings.getBatchSize());
+                Iterator<PendingRun> iterator = pending.values().iterator();
+                while (iterator.hasNext() && batch.size() < settings.getBatchSize()) {
+                    PendingRun run = iterator.next();
+                    iterator.remove();
+                    pendingCells.addAndGet(-run.cells());
+                    batch.add(run);
+                }
+                write(batch);
+            }
+        } catch (RuntimeException e) {
+            log.error("Unexpected error flushing pending model runs", e);
+        }
+    }
+
+    private void write(List<PendingRun> batch) {
+        batchWrite.record(() -> writeBatch(batch));
+    }
+
+    private void writeBatch(List<PendingRun> batch) {
+        List<ModelRun> runs = new ArrayList<>(batch.size());
+        for (PendingRun run : batch) {
+            try {
+                runs.add(ModelRun.of(run.key().toBytes(),
+                        objectMapper.writeValueAsString(run.grid()),
+                        DungeonResultCodec.encode(run.response())));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                failed.increment();
+                log.warn("Could not serialize result for {}: {}", run.grid(), e.getMessage());
+            }
+        }
+        try {
+            resultStore.saveAll(runs);
+            written.increment(runs.size());
+        } catch (Exception e) {
+            failed.increment(runs.size());
+            log.warn("Database unavailable for caching {} results, dropping them: {}", runs.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+            flush();
+        }
+    }
+
+    private record PendingRun(GridDigest key, DungeonGrid grid, DungeonResponse response) {
+
+        long cells() {
+            return (long) grid.rows() * grid.cols();
+        }
+    }
+}
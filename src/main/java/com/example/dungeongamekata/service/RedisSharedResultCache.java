@@ -0,0 +1,68 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonSharedCacheProperties;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shared cache on a Redis-protocol server. Keys are {@code key-prefix} plus the hex grid digest,
+ * values are the {@link DungeonResultCodec} bytes with {@code ttl} set on write; batch lookups
+ * use a single MGET.
+ */
+public class RedisSharedResultCache implements SharedResultCache {
+
+    private final RedisTemplate<byte[], byte[]> redis;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisSharedResultCache(RedisConnectionFactory connectionFactory, DungeonSharedCacheProperties properties) {
+        this.redis = new RedisTemplate<>();
+        redis.setConnectionFactory(connectionFactory);
+        redis.setEnableDefaultSerializer(false);
+        redis.setKeySerializer(RedisSerializer.byteArray());
+        redis.setValueSerializer(RedisSerializer.byteArray());
+        redis.afterPropertiesSet();
+        this.keyPrefix = properties.getKeyPrefix();
+        this.ttl = properties.getTtl();
+    }
+
+    @Override
+    public Optional<DungeonResponse> get(GridDigest key) {
+        return Optional.ofNullable(redis.opsForValue().get(redisKey(key))).map(DungeonResultCodec::decode);
+    }
+
+    @Override
+    public Map<GridDigest, DungeonResponse> getAll(Collection<GridDigest> keys) {
+        Map<GridDigest, DungeonResponse> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        List<GridDigest> ordered = List.copyOf(keys);
+        List<byte[]> values = redis.opsForValue().multiGet(ordered.stream().map(this::redisKey).toList());
+        for (int i = 0; i < ordered.size(); i++) {
+            if (values != null && values.get(i) != null) {
+                found.put(ordered.get(i), DungeonResultCodec.decode(values.get(i)));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void put(GridDigest key, DungeonResponse response) {
+        redis.opsForValue().set(redisKey(key), DungeonResultCodec.encode(response), ttl);
+    }
+
+    private byte[] redisKey(GridDigest key) {
+        return (keyPrefix + key).getBytes(StandardCharsets.US_ASCII);
+    }
+}
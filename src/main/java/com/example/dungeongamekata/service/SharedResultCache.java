@@ -0,0 +1,40 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.dto.DungeonResponse;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Second cache tier, shared between replicas: a result solved or loaded on one replica is
+ * served to the others without a database query. Entries are never invalidated since a
+ * result only depends on its grid. Backend failures are thrown to the caller, which treats
+ * them as misses.
+ */
+public interface SharedResultCache {
+
+    SharedResultCache NONE = new SharedResultCache() {
+        @Override
+        public Optional<DungeonResponse> get(GridDigest key) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void put(GridDigest key, DungeonResponse response) {
+        }
+    };
+
+    Optional<DungeonResponse> get(GridDigest key);
+
+    default Map<GridDigest, DungeonResponse> getAll(Collection<GridDigest> keys) {
+        Map<GridDigest, DungeonResponse> found = new HashMap<>();
+        for (GridDigest key : keys) {
+            get(key).ifPresent(response -> found.put(key, response));
+        }
+        return found;
+    }
+
+    void put(GridDigest key, DungeonResponse response);
+}
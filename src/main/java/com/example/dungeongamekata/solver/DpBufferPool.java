@@ -0,0 +1,96 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-classed pool of {@code int[]} DP tables shared by all solver threads. Tables are handed
+ * out in power-of-two sizes, so a returned table serves any later grid of up to the same size.
+ * Contents are not cleared: solvers write the sentinel border themselves and every other cell
+ * is written before it is read. Idle tables are capped at {@code max-pooled-cells}; a table
+ * larger than that is allocated at its exact size and dropped after use, so one huge grid
+ * never stays pinned on the heap.
+ *
+ * <p>The pool is not tied to threads, so it works the same on virtual request threads as on
+ * the solver pool.
+ */
+@Component
+public class DpBufferPool {
+
+    private static final int MIN_SIZE_CLASS = 10;
+
+    private final boolean pooled;
+    private final long maxPooledCells;
+    private final AtomicLong pooledCells = new AtomicLong();
+    private final ConcurrentLinkedDeque<int[]>[] sizeClasses;
+    private final Counter reused;
+    private final Counter allocated;
+
+    @SuppressWarnings("unchecked")
+    public DpBufferPool(SolverProperties properties, MeterRegistry meterRegistry) {
+        this.pooled = properties.getBuffers().isPooled();
+        this.maxPooledCells = properties.getBuffers().getMaxPooledCells();
+        this.sizeClasses = new ConcurrentLinkedDeque[Integer.SIZE];
+        for (int i = 0; i < sizeClasses.length; i++) {
+            sizeClasses[i] = new ConcurrentLinkedDeque<>();
+        }
+        this.reused = meterRegistry.counter("dungeon.solver.buffers.acquired", "result", "reused");
+        this.allocated = meterRegistry.counter("dungeon.solver.buffers.acquired", "result", "allocated");
+        meterRegistry.gauge("dungeon.solver.buffers.pooled.cells", pooledCells);
+    }
+
+    /**
+     * Returns a table of at least {@code cells} entries with unspecified contents.
+     */
+    public int[] acquire(int cells) {
+        int sizeClass = sizeClass(cells);
+        if (!pooled || 1L << sizeClass > maxPooledCells) {
+            allocated.increment();
+            return new int[cells];
+        }
+        // Most recently returned first, while it is still likely to be in cache
+        int[] buffer = sizeClasses[sizeClass].pollFirst();
+        if (buffer != null) {
+            pooledCells.addAndGet(-buffer.length);
+            reused.increment();
+            return buffer;
+        }
+        allocated.increment();
+        return new int[1 << sizeClass];
+    }
+
+    /**
+     * Length of the table {@link #acquire} hands out for {@code cells}: the size class when it is
+     * pooled, else the exact size. {@link SolverMemoryBudget} reserves this, not the cells used.
+     */
+    public long allocatedCells(long cells) {
+        if (!pooled || cells > 1 << 30) {
+            return cells;
+        }
+        long size = 1L << sizeClass((int) cells);
+        return size > maxPooledCells ? cells : size;
+    }
+
+    /**
+     * Hands a table back once nothing refers to it any more.
+     */
+    public void release(int[] buffer) {
+        if (!pooled || Integer.bitCount(buffer.length) != 1 || buffer.length < 1 << MIN_SIZE_CLASS) {
+            return;
+        }
+        if (pooledCells.addAndGet(buffer.length) > maxPooledCells) {
+            pooledCells.addAndGet(-buffer.length);
+            return;
+        }
+        sizeClasses[sizeClass(buffer.length)].offerFirst(buffer);
+    }
+
+    private static int sizeClass(int cells) {
+        return Math.max(MIN_SIZE_CLASS, Integer.SIZE - Integer.numberOfLeadingZeros(Math.max(1, cells) - 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.dto.CellEdit;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A dungeon together with its full (m+1) x (n+1) DP table, kept between requests so that edits
+ * are solved incrementally. {@code dp[i][j]} only depends on cells at or below row {@code i}
+ * and at or right of column {@code j}, so changing cell (r, c) only invalidates the rectangle
+ * [0..r] x [0..c]. An edit near the princess costs O(r * c) instead of O(m * n).
+ *
+ * <p>Not thread-safe on its own; callers serialise access per session.
+ */
+public final class DungeonSession {
+
+    private final int rows;
+    private final int cols;
+    private final int[] cells;
+    private final int[] dp;
+
+    private DungeonSession(int rows, int cols, int[] cells) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = cells;
+        this.dp = new int[(rows + 1) * (cols + 1)];
+        Arrays.fill(dp, Integer.MAX_VALUE);
+        dp[rows * (cols + 1) + cols - 1] = 1;
+        dp[(rows - 1) * (cols + 1) + cols] = 1;
+    }
+
+    /**
+     * Copies the grid and fills the whole DP table.
+     */
+    public static DungeonSession start(DungeonGrid dungeon) {
+        DungeonSession session = new DungeonSession(dungeon.rows(), dungeon.cols(), dungeon.cells().clone());
+        for (int i = session.rows - 1; i >= 0; i--) {
+            session.computeRow(i, session.cols - 1);
+        }
+        return session;
+    }
+
+    public int cellCount() {
+        return cells.length;
+    }
+
+    /**
+     * Applies the edits and recomputes every DP row up to the rightmost edited column at or
+     * below it.
+     *
+     * @return the number of DP cells recomputed
+     * @throws InvalidDungeonInputException if an edit lies outside the grid; no edit is applied then
+     */
+    public long apply(List<CellEdit> edits) {
+        int[] reach = new int[rows];
+        Arrays.fill(reach, -1);
+        for (CellEdit edit : edits) {
+            if (edit.row() < 0 || edit.row() >= rows || edit.col() < 0 || edit.col() >= cols) {
+                throw new InvalidDungeonInputException(
+                        "Cell [" + edit.row() + ", " + edit.col() + "] is outside the " + rows + "x" + cols + " dungeon");
+            }
+        }
+        for (CellEdit edit : edits) {
+            cells[edit.row() * cols + edit.col()] = edit.value();
+            reach[edit.row()] = Math.max(reach[edit.row()], edit.col());
+        }
+
+        long recomputed = 0;
+        int lastCol = -1;
+        for (int i = rows - 1; i >= 0; i--) {
+            lastCol = Math.max(lastCol, reach[i]);
+            if (lastCol >= 0) {
+                computeRow(i, lastCol);
+                recomputed += lastCol + 1;
+            }
+        }
+        return recomputed;
+    }
+
+    public DungeonResponse response() {
+        return new DungeonResponse(dp[0], ScalarDungeonSolver.reconstructPath(dp, rows, cols));
+    }
+
+    private void computeRow(int i, int lastCol) {
+        int stride = cols + 1;
+        int row = i * stride;
+        int below = row + stride;
+        int cellRow = i * cols;
+        for (int j = lastCol; j >= 0; j--) {
+            int minHp = Math.min(dp[below + j], dp[row + j + 1]) - cells[cellRow + j];
+            dp[row + j] = (minHp <= 0) ? 1 : minHp;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+
+/**
+ * Computes the minimum initial health and the path that achieves it. Every implementation
+ * must return the same minimumHP and the same path as {@link ScalarDungeonSolver}.
+ */
+public interface DungeonSolver {
+
+    DungeonResponse solve(DungeonGrid dungeon);
+
+    /**
+     * Solves while reporting filled DP rows. Engines without row-by-row progress report once
+     * when the table is complete.
+     */
+    default DungeonResponse solve(DungeonGrid dungeon, SolveProgress progress) {
+        DungeonResponse response = solve(dungeon);
+        progress.rowsCompleted(dungeon.rows());
+        return response;
+    }
+
+    /**
+     * DP cells held while solving a grid of this size, for {@link SolverMemoryBudget}. The
+     * default is the full (rows+1) x (cols+1) table.
+     */
+    default long workingCells(int rows, int cols) {
+        return (long) (rows + 1) * (cols + 1);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.SolveOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the engine for a request: the one named in its options, otherwise the low-memory
+ * solver when asked for, the wavefront solver for grids above the configured cell threshold,
+ * the SIMD solver for grids that fit in the CPU caches, and the scalar loop in between.
+ */
+@Component
+public class DungeonSolverSelector {
+
+    private final ScalarDungeonSolver scalarSolver;
+    private final WavefrontDungeonSolver wavefrontSolver;
+    private final LowMemoryDungeonSolver lowMemorySolver;
+    private final SimdDungeonSolver simdSolver;
+    private final SolverProperties.Parallel parallel;
+    private final int simdAutoMaxCells;
+
+    public DungeonSolverSelector(ScalarDungeonSolver scalarSolver, WavefrontDungeonSolver wavefrontSolver,
+                                 LowMemoryDungeonSolver lowMemorySolver, SimdDungeonSolver simdSolver,
+                                 SolverProperties properties) {
+        this.scalarSolver = scalarSolver;
+        this.wavefrontSolver = wavefrontSolver;
+        this.lowMemorySolver = lowMemorySolver;
+        this.simdSolver = simdSolver;
+        this.parallel = properties.getParallel();
+        this.simdAutoMaxCells = properties.getSimd().getAutoMaxCells();
+    }
+
+    public DungeonSolver select(DungeonGrid dungeon, SolveOptions options) {
+        if (options.lowMemory()) {
+            return lowMemorySolver;
+        }
+        return switch (options.engine()) {
+            case SCALAR -> scalarSolver;
+            case WAVEFRONT -> wavefrontSolver;
+            case SIMD -> simdSolver;
+            case LOW_MEMORY -> lowMemorySolver;
+            case AUTO -> {
+                if (parallel.isEnabled() && dungeon.cellCount() >= parallel.getThresholdCells()) {
+                    yield wavefrontSolver;
+                }
+                yield prefersSimd(dungeon) ? simdSolver : scalarSolver;
+            }
+        };
+    }
+
+    /**
+     * Single-threaded engine for background jobs, so one job never occupies more than one core.
+     */
+    public DungeonSolver sequential(DungeonGrid dungeon, SolveOptions options) {
+        if (options.lowMemory()) {
+            return lowMemorySolver;
+        }
+        return switch (options.engine()) {
+            case SIMD -> simdSolver;
+            case AUTO -> prefersSimd(dungeon) ? simdSolver : scalarSolver;
+            default -> scalarSolver;
+        };
+    }
+
+    private boolean prefersSimd(DungeonGrid dungeon) {
+        return simdSolver.isVectorized() && dungeon.cellCount() <= simdAutoMaxCells;
+    }
+
+    public LowMemoryDungeonSolver lowMemory() {
+        return lowMemorySolver;
+    }
+
+    public SimdDungeonSolver simd() {
+        return simdSolver;
+    }
+}
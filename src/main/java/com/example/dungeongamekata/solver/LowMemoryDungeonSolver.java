@@ -0,0 +1,166 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solver for dungeons too large for a full (m+1) x (n+1) DP table.
+ *
+ * <p>{@link #minimumHP(DungeonGrid)} keeps a single rolling row or column, whichever dimension is
+ * smaller. {@link #solve(DungeonGrid)} keeps a checkpoint row every ~sqrt(m) rows on the way up and
+ * recomputes one block of rows at a time while walking the path down, so memory stays at
+ * O(sqrt(m) * n) instead of O(m * n) and the result matches {@link ScalarDungeonSolver}.
+ */
+@Component
+public class LowMemoryDungeonSolver implements DungeonSolver {
+
+    private final StageTimers timers;
+
+    public LowMemoryDungeonSolver(MeterRegistry meterRegistry) {
+        this.timers = StageTimers.of(meterRegistry, "low-memory");
+    }
+
+    public int minimumHP(DungeonGrid dungeon) {
+        long start = System.nanoTime();
+        int m = dungeon.rows();
+        int n = dungeon.cols();
+        int[] cells = dungeon.cells();
+        int minimumHP = n <= m ? minimumHPByRows(cells, m, n) : minimumHPByColumns(cells, m, n);
+        timers.compute().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return minimumHP;
+    }
+
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon) {
+        return solve(dungeon, SolveProgress.NONE);
+    }
+
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon, SolveProgress progress) {
+        long began = System.nanoTime();
+        int m = dungeon.rows();
+        int n = dungeon.cols();
+        int[] cells = dungeon.cells();
+        int k = checkpointInterval(m);
+
+        int[] sentinel = sentinelRow(n);
+        int[][] checkpoints = new int[(m + k - 1) / k][];
+        int[] row = sentinel.clone();
+        int reportEvery = SolveProgress.reportEvery(m);
+        for (int i = m - 1; i >= 0; i--) {
+            computeRow(cells, i, m, row, row);
+            if (i % k == 0) {
+                checkpoints[i / k] = row.clone();
+            }
+            if (i % reportEvery == 0) {
+                progress.rowsCompleted(m - i);
+            }
+        }
+
+        // The path stage includes recomputing each block from its checkpoint
+        long computed = System.nanoTime();
+        timers.compute().record(computed - began, TimeUnit.NANOSECONDS);
+
+        int[][] block = new int[k + 1][];
+        for (int r = 0; r < k; r++) {
+            block[r] = new int[n + 1];
+        }
+
+        DungeonPath.Builder path = DungeonPath.builder(m, n);
+        int i = 0, j = 0;
+        for (int start = 0; start < m; start += k) {
+            int end = Math.min(start + k, m);
+            block[end - start] = end == m ? sentinel : checkpoints[end / k];
+            for (int r = end - 1; r >= start; r--) {
+                computeRow(cells, r, m, block[r - start + 1], block[r - start]);
+            }
+
+            while (i < end) {
+                if (i == m - 1 && j == n - 1) break;
+
+                int[] current = block[i - start];
+                int[] below = block[i - start + 1];
+                if (i + 1 < m && j + 1 < n) {
+                    if (below[j] < current[j + 1]) {
+                        i++;
+                        path.down();
+                    } else {
+                        j++;
+                        path.right();
+                    }
+                } else if (i + 1 < m) {
+                    i++;
+                    path.down();
+                } else {
+                    j++;
+                    path.right();
+                }
+            }
+        }
+
+        timers.path().record(System.nanoTime() - computed, TimeUnit.NANOSECONDS);
+        return new DungeonResponse(checkpoints[0][0], path.build());
+    }
+
+    /**
+     * Checkpoint rows, one block of recomputed rows and the rolling row with its sentinel.
+     */
+    @Override
+    public long workingCells(int rows, int cols) {
+        int k = checkpointInterval(rows);
+        return (long) ((rows + k - 1) / k + k + 2) * (cols + 1);
+    }
+
+    private static int checkpointInterval(int m) {
+        return Math.max(1, (int) Math.ceil(Math.sqrt(m)));
+    }
+
+    private static int minimumHPByRows(int[] cells, int m, int n) {
+        int[] dp = sentinelRow(n);
+        for (int i = m - 1; i >= 0; i--) {
+            computeRow(cells, i, m, dp, dp);
+        }
+        return dp[0];
+    }
+
+    private static int minimumHPByColumns(int[] cells, int m, int n) {
+        int[] dp = new int[m + 1];
+        Arrays.fill(dp, Integer.MAX_VALUE);
+        dp[m - 1] = 1;
+
+        for (int j = n - 1; j >= 0; j--) {
+            dp[m] = (j == n - 1) ? 1 : Integer.MAX_VALUE;
+            for (int i = m - 1; i >= 0; i--) {
+                int minHp = Math.min(dp[i + 1], dp[i]) - cells[i * n + j];
+                dp[i] = (minHp <= 0) ? 1 : minHp;
+            }
+        }
+        return dp[0];
+    }
+
+    /**
+     * Fills {@code out} with DP row {@code i} given row {@code i + 1}; safe to call in place.
+     */
+    private static void computeRow(int[] cells, int i, int m, int[] below, int[] out) {
+        int n = out.length - 1;
+        out[n] = (i == m - 1) ? 1 : Integer.MAX_VALUE;
+        int cellRow = i * n;
+        for (int j = n - 1; j >= 0; j--) {
+            int minHp = Math.min(below[j], out[j + 1]) - cells[cellRow + j];
+            out[j] = (minHp <= 0) ? 1 : minHp;
+        }
+    }
+
+    private static int[] sentinelRow(int n) {
+        int[] row = new int[n + 1];
+        Arrays.fill(row, Integer.MAX_VALUE);
+        row[n - 1] = 1;
+        return row;
+    }
+}
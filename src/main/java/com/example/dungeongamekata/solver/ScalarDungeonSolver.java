@@ -0,0 +1,122 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ScalarDungeonSolver implements DungeonSolver {
+
+    private final DpBufferPool buffers;
+    private final StageTimers timers;
+
+    public ScalarDungeonSolver(DpBufferPool buffers, MeterRegistry meterRegistry) {
+        this.buffers = buffers;
+        this.timers = StageTimers.of(meterRegistry, "scalar");
+    }
+
+    /**
+     * The full table, rounded up to the pooled size it is taken from.
+     */
+    @Override
+    public long workingCells(int rows, int cols) {
+        return buffers.allocatedCells((long) (rows + 1) * (cols + 1));
+    }
+
+    /**
+     * Calculate the minimum initial health required to rescue the princess in the dungeon.
+     * The DP table is a single row-major (m+1) x (n+1) array taken from the buffer pool.
+     * @param dungeon
+     * @return
+     */
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon) {
+        return solve(dungeon, SolveProgress.NONE);
+    }
+
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon, SolveProgress progress) {
+        long start = System.nanoTime();
+        int m = dungeon.rows();
+        int n = dungeon.cols();
+        int[] cells = dungeon.cells();
+        int stride = n + 1;
+
+        int[] dp = buffers.acquire((m + 1) * stride);
+        try {
+            initBorder(dp, m, n);
+            int reportEvery = SolveProgress.reportEvery(m);
+
+            for (int i = m - 1; i >= 0; i--) {
+                int row = i * stride;
+                int below = row + stride;
+                int cellRow = i * n;
+                for (int j = n - 1; j >= 0; j--) {
+                    int minHp = Math.min(dp[below + j], dp[row + j + 1]) - cells[cellRow + j];
+                    dp[row + j] = (minHp <= 0) ? 1 : minHp;
+                }
+                if (i % reportEvery == 0) {
+                    progress.rowsCompleted(m - i);
+                }
+            }
+
+            long computed = System.nanoTime();
+            timers.compute().record(computed - start, TimeUnit.NANOSECONDS);
+            DungeonPath path = reconstructPath(dp, m, n);
+            timers.path().record(System.nanoTime() - computed, TimeUnit.NANOSECONDS);
+
+            return new DungeonResponse(dp[0], path);
+        } finally {
+            buffers.release(dp);
+        }
+    }
+
+    /**
+     * Writes the sentinel row below the grid and the sentinel column to its right; the m x n
+     * interior is always written before it is read, so a reused table needs no other reset.
+     */
+    static void initBorder(int[] dp, int m, int n) {
+        int stride = n + 1;
+        Arrays.fill(dp, m * stride, m * stride + n, Integer.MAX_VALUE);
+        dp[m * stride + n - 1] = 1;
+        for (int row = n; row < m * stride; row += stride) {
+            dp[row] = Integer.MAX_VALUE;
+        }
+        dp[(m - 1) * stride + n] = 1;
+    }
+
+    /**
+     * Walk from the entrance over a row-major (m+1) x (n+1) DP table, stepping towards the
+     * cheaper of the two neighbours (right on ties). Moves are recorded as bits, so no
+     * per-cell arrays are allocated.
+     */
+    static DungeonPath reconstructPath(int[] dp, int m, int n) {
+        int stride = n + 1;
+        DungeonPath.Builder path = DungeonPath.builder(m, n);
+        int i = 0, j = 0;
+        while (i < m - 1 || j < n - 1) {
+            if (i + 1 < m && j + 1 < n) {
+                if (dp[(i + 1) * stride + j] < dp[i * stride + j + 1]) {
+                    i++;
+                    path.down();
+                } else {
+                    j++;
+                    path.right();
+                }
+            } else if (i + 1 < m) {
+                i++;
+                path.down();
+            } else {
+                j++;
+                path.right();
+            }
+        }
+
+        return path.build();
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-core solver built on the Vector API. In row-major order every cell depends on the one
+ * just written to its right, which keeps HotSpot from vectorizing the scalar loop. Here the
+ * (m+1) x (n+1) table is stored one anti-diagonal after another: all cells of a diagonal only
+ * depend on the previous diagonal, whose right and down neighbours sit next to each other, so
+ * a diagonal is a straight min/subtract/max vector loop.
+ *
+ * <p>{@link #solvePacked(List)} handles many small grids of one shape instead: the grids are
+ * interleaved cell by cell, one per lane, and solved together in row-major order.
+ *
+ * <p>Without {@code --add-modules jdk.incubator.vector} every call goes to
+ * {@link ScalarDungeonSolver}. Results are identical to it either way.
+ */
+@Slf4j
+@Component
+public class SimdDungeonSolver implements DungeonSolver {
+
+    private static final int SKEW_TILE = 64;
+
+    private final ScalarDungeonSolver scalarSolver;
+    private final DpBufferPool buffers;
+    private final VectorKernel kernel;
+    private final StageTimers timers;
+
+    public SimdDungeonSolver(ScalarDungeonSolver scalarSolver, DpBufferPool buffers, SolverProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.scalarSolver = scalarSolver;
+        this.buffers = buffers;
+        this.kernel = properties.getSimd().isEnabled() ? VectorKernel.load() : null;
+        this.timers = StageTimers.of(meterRegistry, "simd");
+        if (kernel != null) {
+            log.info("SIMD solver uses {} int lanes", kernel.lanes());
+        } else if (properties.getSimd().isEnabled()) {
+            log.info("Vector API not available (start the JVM with --add-modules {}), SIMD solves run scalar",
+                    VectorKernel.MODULE);
+        }
+    }
+
+    public boolean isVectorized() {
+        return kernel != null;
+    }
+
+    /**
+     * Grids solved per pass by {@link #solvePacked(List)}; 1 without the Vector API.
+     */
+    public int lanes() {
+        return kernel == null ? 1 : kernel.lanes();
+    }
+
+    /**
+     * The DP table plus its skewed copy of the cells, each rounded up to its pooled size.
+     */
+    @Override
+    public long workingCells(int rows, int cols) {
+        if (kernel == null) {
+            return scalarSolver.workingCells(rows, cols);
+        }
+        return 2 * buffers.allocatedCells((long) (rows + 1) * (cols + 1));
+    }
+
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon) {
+        if (kernel == null) {
+            return scalarSolver.solve(dungeon);
+        }
+        long start = System.nanoTime();
+        int m = dungeon.rows();
+        int n = dungeon.cols();
+        int size = (m + 1) * (n + 1);
+        int[] offsets = diagonalOffsets(m, n);
+
+        int[] dp = buffers.acquire(size);
+        int[] skewed = buffers.acquire(size);
+        try {
+            skewCells(dungeon.cells(), skewed, offsets, m, n);
+            initBorder(dp, offsets, m, n);
+            for (int d = m + n - 2; d >= 0; d--) {
+                int lo = Math.max(0, d - n + 1);
+                int hi = Math.min(m - 1, d);
+                kernel.diagonal(dp, skewed, index(offsets, n, lo, d - lo), index(offsets, n, lo, d - lo + 1),
+                        hi - lo + 1);
+            }
+
+            long computed = System.nanoTime();
+            timers.compute().record(computed - start, TimeUnit.NANOSECONDS);
+            DungeonPath path = reconstructPath(dp, offsets, m, n);
+            timers.path().record(System.nanoTime() - computed, TimeUnit.NANOSECONDS);
+
+            return new DungeonResponse(dp[0], path);
+        } finally {
+            buffers.release(skewed);
+            buffers.release(dp);
+        }
+    }
+
+    /**
+     * Solves grids that all have the same shape, {@link #lanes()} at a time, and returns their
+     * results in order. A partial last group is padded with empty lanes.
+     */
+    public List<DungeonResponse> solvePacked(List<DungeonGrid> dungeons) {
+        if (kernel == null || dungeons.size() < 2) {
+            return dungeons.stream().map(this::solve).toList();
+        }
+        int m = dungeons.get(0).rows();
+        int n = dungeons.get(0).cols();
+        for (DungeonGrid dungeon : dungeons) {
+            if (dungeon.rows() != m || dungeon.cols() != n) {
+                throw new IllegalArgumentException("Packed grids must all be " + m + "x" + n);
+            }
+        }
+
+        int lanes = kernel.lanes();
+        List<DungeonResponse> responses = new ArrayList<>(dungeons.size());
+        int[] packed = buffers.acquire(m * n * lanes);
+        int[] dp = buffers.acquire((m + 1) * (n + 1) * lanes);
+        try {
+            for (int first = 0; first < dungeons.size(); first += lanes) {
+                long start = System.nanoTime();
+                List<DungeonGrid> group = dungeons.subList(first, Math.min(first + lanes, dungeons.size()));
+                packCells(group, packed, m * n, lanes);
+                initPackedBorder(dp, m, n, lanes);
+                int stride = (n + 1) * lanes;
+                for (int i = m - 1; i >= 0; i--) {
+                    kernel.packedRow(dp, packed, i * stride, (i + 1) * stride, i * n * lanes, n);
+                }
+
+                long computed = System.nanoTime();
+                timers.compute().record(computed - start, TimeUnit.NANOSECONDS);
+                for (int lane = 0; lane < group.size(); lane++) {
+                    responses.add(new DungeonResponse(dp[lane], reconstructPackedPath(dp, m, n, lanes, lane)));
+                }
+                timers.path().record(System.nanoTime() - computed, TimeUnit.NANOSECONDS);
+            }
+            return responses;
+        } finally {
+            buffers.release(dp);
+            buffers.release(packed);
+        }
+    }
+
+    /**
+     * Start of every anti-diagonal of the (m+1) x (n+1) table; diagonal d holds rows
+     * {@code max(0, d-n)..min(m, d)} in order.
+     */
+    static int[] diagonalOffsets(int m, int n) {
+        int[] offsets = new int[m + n + 2];
+        for (int d = 0; d <= m + n; d++) {
+            offsets[d + 1] = offsets[d] + Math.min(m, d) - Math.max(0, d - n) + 1;
+        }
+        return offsets;
+    }
+
+    static int index(int[] offsets, int n, int i, int j) {
+        int d = i + j;
+        return offsets[d] + i - Math.max(0, d - n);
+    }
+
+    /**
+     * Copies the cells in square tiles: within a tile consecutive rows of one diagonal are
+     * adjacent in the skewed copy, so both sides of the copy stay in cache.
+     */
+    private static void skewCells(int[] cells, int[] skewed, int[] offsets, int m, int n) {
+        for (int rowTile = 0; rowTile < m; rowTile += SKEW_TILE) {
+            int rowEnd = Math.min(m, rowTile + SKEW_TILE);
+            for (int colTile = 0; colTile < n; colTile += SKEW_TILE) {
+                int colEnd = Math.min(n, colTile + SKEW_TILE);
+                for (int i = rowTile; i < rowEnd; i++) {
+                    int cellRow = i * n;
+                    for (int j = colTile; j < colEnd; j++) {
+                        skewed[index(offsets, n, i, j)] = cells[cellRow + j];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Same sentinels as {@link ScalarDungeonSolver#initBorder}: MAX_VALUE below and right of
+     * the grid, except 1 next to the princess.
+     */
+    private static void initBorder(int[] dp, int[] offsets, int m, int n) {
+        for (int j = 0; j <= n; j++) {
+            dp[index(offsets, n, m, j)] = Integer.MAX_VALUE;
+        }
+        for (int i = 0; i < m; i++) {
+            dp[index(offsets, n, i, n)] = Integer.MAX_VALUE;
+        }
+        dp[index(offsets, n, m, n - 1)] = 1;
+        dp[index(offsets, n, m - 1, n)] = 1;
+    }
+
+    /**
+     * Same walk and tie-break as {@link ScalarDungeonSolver#reconstructPath}. The down and
+     * right neighbours are adjacent on the next diagonal, down one slot after right.
+     */
+    private static DungeonPath reconstructPath(int[] dp, int[] offsets, int m, int n) {
+        DungeonPath.Builder path = DungeonPath.builder(m, n);
+        int i = 0, j = 0;
+        while (i < m - 1 || j < n - 1) {
+            if (i + 1 < m && j + 1 < n) {
+                int right = index(offsets, n, i, j + 1);
+                if (dp[right + 1] < dp[right]) {
+                    i++;
+                    path.down();
+                } else {
+                    j++;
+                    path.right();
+                }
+            } else if (i + 1 < m) {
+                i++;
+                path.down();
+            } else {
+                j++;
+                path.right();
+            }
+        }
+        return path.build();
+    }
+
+    private static void packCells(List<DungeonGrid> group, int[] packed, int cellCount, int lanes) {
+        if (group.size() < lanes) {
+            Arrays.fill(packed, 0, cellCount * lanes, 0);
+        }
+        for (int lane = 0; lane < group.size(); lane++) {
+            int[] cells = group.get(lane).cells();
+            for (int c = 0, p = lane; c < cellCount; c++, p += lanes) {
+                packed[p] = cells[c];
+            }
+        }
+    }
+
+    private static void initPackedBorder(int[] dp, int m, int n, int lanes) {
+        int stride = (n + 1) * lanes;
+        Arrays.fill(dp, m * stride, (m + 1) * stride, Integer.MAX_VALUE);
+        Arrays.fill(dp, m * stride + (n - 1) * lanes, m * stride + n * lanes, 1);
+        for (int row = n * lanes; row < m * stride; row += stride) {
+            Arrays.fill(dp, row, row + lanes, Integer.MAX_VALUE);
+        }
+        Arrays.fill(dp, (m - 1) * stride + n * lanes, m * stride, 1);
+    }
+
+    private static DungeonPath reconstructPackedPath(int[] dp, int m, int n, int lanes, int lane) {
+        int stride = (n + 1) * lanes;
+        DungeonPath.Builder path = DungeonPath.builder(m, n);
+        int i = 0, j = 0;
+        while (i < m - 1 || j < n - 1) {
+            if (i + 1 < m && j + 1 < n) {
+                if (dp[(i + 1) * stride + j * lanes + lane] < dp[i * stride + (j + 1) * lanes + lane]) {
+                    i++;
+                    path.down();
+                } else {
+                    j++;
+                    path.right();
+                }
+            } else if (i + 1 < m) {
+                i++;
+                path.down();
+            } else {
+                j++;
+                path.right();
+            }
+        }
+        return path.build();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.dungeongamekata.solver;
+
+/**
+ * Receives progress from a running solve. Throwing from {@link #rowsCompleted} aborts the
+ * solve, which is how background jobs are cancelled.
+ */
+@FunctionalInterface
+public interface SolveProgress {
+
+    SolveProgress NONE = rows -> {
+    };
+
+    /**
+     * Called as DP rows are filled, bottom row first, with the number of rows done so far.
+     * Engines report at most about a hundred times per solve and always once at the end.
+     */
+    void rowsCompleted(int rows);
+
+    static int reportEvery(int rows) {
+        return Math.max(1, (rows + 99) / 100);
+    }
+}
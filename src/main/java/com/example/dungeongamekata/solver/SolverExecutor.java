@@ -0,0 +1,109 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool for CPU-bound solves. Request threads (virtual when
+ * {@code spring.threads.virtual.enabled} is on) only block here while a solve runs, so the
+ * number of concurrent DP computations stays at {@code admission.max-concurrent} however many
+ * requests are in flight. Excess work is rejected instead of queueing without limit.
+ */
+@Component
+public class SolverExecutor {
+
+    private final boolean enabled;
+    private final long maxQueueWaitNanos;
+    private final ThreadPoolExecutor executor;
+    private final Counter queueFullRejections;
+    private final Counter queueTimeoutRejections;
+
+    public SolverExecutor(SolverProperties properties, MeterRegistry meterRegistry) {
+        SolverProperties.Admission admission = properties.getAdmission();
+        this.enabled = admission.isEnabled();
+        this.maxQueueWaitNanos = admission.getMaxQueueWait().toNanos();
+        int threads = Math.max(1, admission.getMaxConcurrent());
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, admission.getQueueCapacity())), runnable -> {
+                    Thread thread = new Thread(runnable, "dungeon-solver-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.queueFullRejections = meterRegistry.counter("dungeon.solver.rejections", "reason", "queue_full");
+        this.queueTimeoutRejections = meterRegistry.counter("dungeon.solver.rejections", "reason", "queue_timeout");
+        meterRegistry.gauge("dungeon.solver.queue.depth", executor, pool -> pool.getQueue().size());
+        meterRegistry.gauge("dungeon.solver.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    /**
+     * Runs {@code task} on the solver pool and waits for its result. Runtime exceptions thrown
+     * by the task are rethrown unchanged.
+     *
+     * @throws SolverOverloadedException if the queue is full (429) or the task waited longer
+     *                                   than {@code max-queue-wait} to start (503)
+     */
+    public <T> T execute(Supplier<T> task) {
+        if (!enabled) {
+            return task.get();
+        }
+
+        long submittedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> submitted;
+        try {
+            submitted = executor.submit(() -> {
+                if (System.nanoTime() - submittedAt > maxQueueWaitNanos) {
+                    queueTimeoutRejections.increment();
+                    result.completeExceptionally(new SolverOverloadedException(
+                            "Solver is busy, request waited too long in the queue", HttpStatus.SERVICE_UNAVAILABLE));
+                    return;
+                }
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queueFullRejections.increment();
+            throw new SolverOverloadedException("Solver queue is full, retry later", HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            submitted.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for solver", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Solver failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
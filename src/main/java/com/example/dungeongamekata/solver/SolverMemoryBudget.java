@@ -0,0 +1,161 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps the DP memory of concurrent solves per JVM. Each solve reserves the cells its engine
+ * will hold ({@link DungeonSolver#workingCells}) before it starts and returns them when done.
+ * Grids whose full table is over the threshold, or does not fit in the budget right now, are
+ * moved to {@link LowMemoryDungeonSolver}; a solve that cannot reserve even that waits up to
+ * {@code max-wait} and is then dropped with 503. A grid larger than the whole budget takes
+ * all of it and runs alone.
+ *
+ * <p>The path-less {@code minimumHP} solve holds a single row and is not budgeted. Request
+ * bodies decoded into a flat cell array reserve their cells with {@link #reserveCells} while
+ * they are read.
+ */
+@Component
+public class SolverMemoryBudget {
+
+    private final LowMemoryDungeonSolver lowMemorySolver;
+    private final boolean enabled;
+    private final int budgetCells;
+    private final long thresholdCells;
+    private final long maxWaitNanos;
+    private final Semaphore available;
+    private final Counter thresholdDowngrades;
+    private final Counter budgetDowngrades;
+    private final Counter rejections;
+
+    public SolverMemoryBudget(LowMemoryDungeonSolver lowMemorySolver, SolverProperties properties,
+                              MeterRegistry meterRegistry) {
+        SolverProperties.Memory memory = properties.getMemory();
+        this.lowMemorySolver = lowMemorySolver;
+        this.enabled = memory.isEnabled();
+        this.budgetCells = (int) Math.max(1, Math.min(Integer.MAX_VALUE, memory.getBudgetCells()));
+        this.thresholdCells = memory.getLowMemoryThresholdCells();
+        this.maxWaitNanos = memory.getMaxWait().toNanos();
+        // non-fair: a fair semaphore fails every zero-wait attempt while anything is queued, so one
+        // job waiting for a large table would push every interactive solve to low-memory or 503
+        this.available = new Semaphore(budgetCells);
+        this.thresholdDowngrades = meterRegistry.counter("dungeon.solver.memory.downgrades", "reason", "threshold");
+        this.budgetDowngrades = meterRegistry.counter("dungeon.solver.memory.downgrades", "reason", "budget");
+        this.rejections = meterRegistry.counter("dungeon.solver.rejections", "reason", "memory_budget");
+        meterRegistry.gauge("dungeon.solver.memory.budget.cells", this, budget -> budget.budgetCells);
+        meterRegistry.gauge("dungeon.solver.memory.threshold.cells", this, budget -> budget.thresholdCells);
+        meterRegistry.gauge("dungeon.solver.memory.reserved.cells", available,
+                semaphore -> budgetCells - semaphore.availablePermits());
+    }
+
+    /**
+     * Reserves memory for an interactive solve, waiting at most {@code max-wait}.
+     *
+     * @throws SolverOverloadedException with 503 if the budget stays exhausted
+     */
+    public Reservation reserve(DungeonGrid dungeon, DungeonSolver preferred) {
+        return reserve(dungeon, preferred, maxWaitNanos);
+    }
+
+    /**
+     * Reserves memory for a background job, waiting as long as it takes. Cancelling the job
+     * interrupts the wait.
+     */
+    public Reservation reserveWaiting(DungeonGrid dungeon, DungeonSolver preferred) {
+        return reserve(dungeon, preferred, Long.MAX_VALUE);
+    }
+
+    /**
+     * Reserves {@code cells} for something other than a solve, such as decoding a request body,
+     * waiting at most {@code max-wait}. The returned reservation has no solver.
+     *
+     * @throws SolverOverloadedException with 503 if the budget stays exhausted
+     */
+    public Reservation reserveCells(long cells) {
+        if (!enabled) {
+            return new Reservation(null, 0);
+        }
+        int permits = permits(cells);
+        if (!acquire(permits, maxWaitNanos)) {
+            rejections.increment();
+            throw new SolverOverloadedException("Solver memory is exhausted, retry later", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new Reservation(null, permits);
+    }
+
+    private Reservation reserve(DungeonGrid dungeon, DungeonSolver preferred, long waitNanos) {
+        if (!enabled) {
+            return new Reservation(preferred, 0);
+        }
+        int rows = dungeon.rows();
+        int cols = dungeon.cols();
+
+        DungeonSolver solver = preferred;
+        if (solver != lowMemorySolver) {
+            if (solver.workingCells(rows, cols) > thresholdCells) {
+                thresholdDowngrades.increment();
+            } else {
+                int cells = permits(solver.workingCells(rows, cols));
+                if (acquire(cells, 0)) {
+                    return new Reservation(solver, cells);
+                }
+                budgetDowngrades.increment();
+            }
+            solver = lowMemorySolver;
+        }
+
+        int cells = permits(solver.workingCells(rows, cols));
+        if (!acquire(cells, waitNanos)) {
+            rejections.increment();
+            throw new SolverOverloadedException("Solver memory is exhausted, retry later", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new Reservation(solver, cells);
+    }
+
+    private int permits(long cells) {
+        return (int) Math.min(cells, budgetCells);
+    }
+
+    private boolean acquire(int cells, long waitNanos) {
+        try {
+            return available.tryAcquire(cells, waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for solver memory", e);
+        }
+    }
+
+    /**
+     * Cells held for one solve and the engine they were reserved for. Closing it returns the cells.
+     */
+    public final class Reservation implements AutoCloseable {
+
+        private final DungeonSolver solver;
+        private int cells;
+
+        private Reservation(DungeonSolver solver, int cells) {
+            this.solver = solver;
+            this.cells = cells;
+        }
+
+        public DungeonSolver solver() {
+            return solver;
+        }
+
+        @Override
+        public void close() {
+            if (cells > 0) {
+                available.release(cells);
+                cells = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.dungeongamekata.solver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-engine timers for the two halves of a solve, published as {@code dungeon.solver.stage}
+ * with {@code stage=compute} for filling the DP table and {@code stage=path} for walking it.
+ */
+record StageTimers(Timer compute, Timer path) {
+
+    static StageTimers of(MeterRegistry registry, String engine) {
+        return new StageTimers(timer(registry, engine, "compute"), timer(registry, engine, "path"));
+    }
+
+    private static Timer timer(MeterRegistry registry, String engine, String stage) {
+        return Timer.builder("dungeon.solver.stage")
+                .description("Time spent per solver stage")
+                .tag("engine", engine)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
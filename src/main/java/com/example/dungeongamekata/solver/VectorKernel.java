@@ -0,0 +1,41 @@
+package com.example.dungeongamekata.solver;
+
+/**
+ * Inner loops of {@link SimdDungeonSolver}. The Vector API implementation lives in
+ * {@link IntVectorKernel} and is only loaded by name, so this package links on JVMs started
+ * without {@code jdk.incubator.vector}.
+ */
+interface VectorKernel {
+
+    String IMPLEMENTATION = "com.example.dungeongamekata.solver.IntVectorKernel";
+    String MODULE = "jdk.incubator.vector";
+
+    int lanes();
+
+    /**
+     * {@code dp[out + k] = max(1, min(dp[right + k], dp[right + k + 1]) - cells[out + k])} for
+     * {@code k < length}: one anti-diagonal, whose right and down neighbours are adjacent
+     * entries of the previous diagonal.
+     */
+    void diagonal(int[] dp, int[] cells, int out, int right, int length);
+
+    /**
+     * One row of {@link #lanes()} interleaved grids: every entry is a vector of the same cell
+     * across all grids, computed from the entry below and the one to the right.
+     */
+    void packedRow(int[] dp, int[] cells, int out, int below, int cellRow, int cols);
+
+    /**
+     * The Vector API kernel, or null if the module is missing or fails to link.
+     */
+    static VectorKernel load() {
+        if (ModuleLayer.boot().findModule(MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (VectorKernel) Class.forName(IMPLEMENTATION).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
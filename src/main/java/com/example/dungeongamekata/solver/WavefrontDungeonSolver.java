@@ -0,0 +1,136 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-core solver. The DP table is split into square tiles; a tile only depends on the
+ * tiles below and to its right, so all tiles on one anti-diagonal are filled in parallel
+ * before moving to the next one. Every cell runs the same recurrence as
+ * {@link ScalarDungeonSolver}, so minimumHP and path are identical.
+ */
+@Component
+public class WavefrontDungeonSolver implements DungeonSolver {
+
+    private final DpBufferPool buffers;
+    private final int tileSize;
+    private final ForkJoinPool pool;
+    private final StageTimers timers;
+
+    public WavefrontDungeonSolver(DpBufferPool buffers, SolverProperties properties, MeterRegistry meterRegistry) {
+        this.buffers = buffers;
+        this.tileSize = Math.max(1, properties.getParallel().getTileSize());
+        this.pool = new ForkJoinPool(Math.max(1, properties.getParallel().getParallelism()));
+        this.timers = StageTimers.of(meterRegistry, "wavefront");
+    }
+
+    /**
+     * The full table, rounded up to the pooled size it is taken from.
+     */
+    @Override
+    public long workingCells(int rows, int cols) {
+        return buffers.allocatedCells((long) (rows + 1) * (cols + 1));
+    }
+
+    @Override
+    public DungeonResponse solve(DungeonGrid dungeon) {
+        long start = System.nanoTime();
+        int m = dungeon.rows();
+        int n = dungeon.cols();
+        int stride = n + 1;
+
+        int[] dp = buffers.acquire((m + 1) * stride);
+        try {
+            ScalarDungeonSolver.initBorder(dp, m, n);
+            pool.invoke(new Wavefront(dungeon.cells(), dp, m, n));
+
+            long computed = System.nanoTime();
+            timers.compute().record(computed - start, TimeUnit.NANOSECONDS);
+            DungeonPath path = ScalarDungeonSolver.reconstructPath(dp, m, n);
+            timers.path().record(System.nanoTime() - computed, TimeUnit.NANOSECONDS);
+
+            return new DungeonResponse(dp[0], path);
+        } finally {
+            buffers.release(dp);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private final class Wavefront extends RecursiveAction {
+        private final int[] cells;
+        private final int[] dp;
+        private final int m;
+        private final int n;
+
+        private Wavefront(int[] cells, int[] dp, int m, int n) {
+            this.cells = cells;
+            this.dp = dp;
+            this.m = m;
+            this.n = n;
+        }
+
+        @Override
+        protected void compute() {
+            int tileRows = (m + tileSize - 1) / tileSize;
+            int tileCols = (n + tileSize - 1) / tileSize;
+
+            for (int d = tileRows + tileCols - 2; d >= 0; d--) {
+                List<Tile> tiles = new ArrayList<>();
+                for (int ti = Math.max(0, d - tileCols + 1); ti <= Math.min(tileRows - 1, d); ti++) {
+                    tiles.add(new Tile(cells, dp, n, ti * tileSize, Math.min((ti + 1) * tileSize, m),
+                            (d - ti) * tileSize, Math.min((d - ti + 1) * tileSize, n)));
+                }
+                invokeAll(tiles);
+            }
+        }
+    }
+
+    private static final class Tile extends RecursiveAction {
+        private final int[] cells;
+        private final int[] dp;
+        private final int n;
+        private final int rowStart;
+        private final int rowEnd;
+        private final int colStart;
+        private final int colEnd;
+
+        private Tile(int[] cells, int[] dp, int n, int rowStart, int rowEnd, int colStart, int colEnd) {
+            this.cells = cells;
+            this.dp = dp;
+            this.n = n;
+            this.rowStart = rowStart;
+            this.rowEnd = rowEnd;
+            this.colStart = colStart;
+            this.colEnd = colEnd;
+        }
+
+        @Override
+        protected void compute() {
+            int stride = n + 1;
+            for (int i = rowEnd - 1; i >= rowStart; i--) {
+                int row = i * stride;
+                int below = row + stride;
+                int cellRow = i * n;
+                for (int j = colEnd - 1; j >= colStart; j--) {
+                    int minHp = Math.min(dp[below + j], dp[row + j + 1]) - cells[cellRow + j];
+                    dp[row + j] = (minHp <= 0) ? 1 : minHp;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,20 @@
 CREATE TABLE IF NOT EXISTS model_runs (
   id BIGSERIAL PRIMARY KEY,
-  input TEXT NOT NULL UNIQUE,
-  output TEXT NOT NULL,
+  input_hash BYTEA,
+  input TEXT NOT NULL,
+  output TEXT,
+  output_bin BYTEA,
   created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-);
\ No newline at end of file
+);
+
+-- Migration from the TEXT-keyed layout: lookups go through the SHA-256 digest of the grid,
+-- so the unique B-tree over the full input text is no longer needed. Existing rows get their
+-- digest from the backfill runner (dungeon.store.backfill-hashes=true).
+ALTER TABLE model_runs ADD COLUMN IF NOT EXISTS input_hash BYTEA;
+ALTER TABLE model_runs DROP CONSTRAINT IF EXISTS model_runs_input_key;
+CREATE UNIQUE INDEX IF NOT EXISTS model_runs_input_hash_idx ON model_runs (input_hash);
+
+-- Outputs are stored in the compact binary form (DungeonResultCodec). Old JSON outputs stay
+-- readable and are converted by dungeon.store.backfill-outputs=true.
+ALTER TABLE model_runs ADD COLUMN IF NOT EXISTS output_bin BYTEA;
+ALTER TABLE model_runs ALTER COLUMN output DROP NOT NULL;
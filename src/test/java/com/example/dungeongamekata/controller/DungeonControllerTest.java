@@ -1,9 +1,18 @@
 package com.example.dungeongamekata.controller;
 
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
 import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.PathFormat;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.dto.SolverEngine;
 import com.example.dungeongamekata.exception.GlobalExceptionHandler;
 import com.example.dungeongamekata.service.DungeonService;
+import com.example.dungeongamekata.solver.LowMemoryDungeonSolver;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,10 +22,15 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -26,6 +40,7 @@ class DungeonControllerTest {
 
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
+    private DungeonInputProperties inputProperties;
 
     @Mock
     private DungeonService dungeonService;
@@ -33,7 +48,12 @@ class DungeonControllerTest {
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
-        DungeonController controller = new DungeonController(dungeonService);
+        inputProperties = new DungeonInputProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SolverMemoryBudget memoryBudget = new SolverMemoryBudget(new LowMemoryDungeonSolver(meterRegistry),
+                new SolverProperties(), meterRegistry);
+        DungeonController controller = new DungeonController(dungeonService,
+                new BinaryDungeonGridReader(inputProperties, memoryBudget), inputProperties);
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
                 .setControllerAdvice(new GlobalExceptionHandler())
                 .build();
@@ -92,7 +112,7 @@ class DungeonControllerTest {
 
     @Test
     void postSolve_WhenServiceThrowsRuntimeException_ReturnsFormattedErrorResponse() throws Exception {
-        when(dungeonService.calculateMinimumHP(any())).thenThrow(new RuntimeException("Service error"));
+        when(dungeonService.calculateMinimumHP(any(), any())).thenThrow(new RuntimeException("Service error"));
 
         int[][] validDungeon = {{1, 2}, {3, 4}};
 
@@ -114,7 +134,7 @@ class DungeonControllerTest {
     void postSolve_WithValidInput_ReturnsSuccessfulResponse() throws Exception {
         int[][] validDungeon = {{1, 2}, {3, 4}};
         DungeonResponse mockResponse = new DungeonResponse(42, List.of(new int[]{0, 0}, new int[]{1, 1}));
-        when(dungeonService.calculateMinimumHP(any())).thenReturn(mockResponse);
+        when(dungeonService.calculateMinimumHP(any(), any())).thenReturn(mockResponse);
 
 
 
@@ -130,6 +150,55 @@ class DungeonControllerTest {
                 .andExpect(jsonPath("$.path[1][1]").value(1));
     }
 
+    @Test
+    void postSolve_WithMovesPathFormat_PassesFormatToService() throws Exception {
+        int[][] validDungeon = {{1, 2}, {3, 4}};
+        when(dungeonService.calculateMinimumHP(any(), eq(new SolveOptions(false, true, PathFormat.MOVES))))
+                .thenReturn(new DungeonResponse(1, null, "RD"));
+
+        mockMvc.perform(post("/dungeon/solve")
+                .param("pathFormat", "moves")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validDungeon)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.moves", is("RD")))
+                .andExpect(jsonPath("$.path").doesNotExist());
+    }
+
+    @Test
+    void postSolve_WithUnknownPathFormat_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/dungeon/solve")
+                .param("pathFormat", "base64")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[[1]]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("pathFormat must be one of: cells, moves")));
+    }
+
+    @Test
+    void postSolve_WithSimdEngine_PassesEngineToService() throws Exception {
+        int[][] validDungeon = {{1, 2}, {3, 4}};
+        when(dungeonService.calculateMinimumHP(any(), eq(new SolveOptions(false, true, PathFormat.CELLS, SolverEngine.SIMD))))
+                .thenReturn(new DungeonResponse(1, List.of(new int[]{0, 0}, new int[]{0, 1}, new int[]{1, 1})));
+
+        mockMvc.perform(post("/dungeon/solve")
+                .param("engine", "simd")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validDungeon)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.minimumHP", is(1)));
+    }
+
+    @Test
+    void postSolve_WithUnknownEngine_ReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/dungeon/solve")
+                .param("engine", "gpu")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[[1]]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("engine must be one of: auto, scalar, wavefront, simd, low-memory")));
+    }
+
     @Test
     void postSolve_WithEmptyDungeonArray_ReturnsInvalidDungeonInputError() throws Exception {
         int[][] emptyDungeon = {};
@@ -171,4 +240,86 @@ class DungeonControllerTest {
                 .andExpect(jsonPath("$.error", is("Bad Request")))
                 .andExpect(jsonPath("$.timestamp", notNullValue()));
     }
+
+    @Test
+    void postSolveBinary_WithGzippedBody_SolvesDecodedGrid() throws Exception {
+        int[][] dungeon = {{1, -3, 3}, {0, -2, 0}};
+        DungeonResponse mockResponse = new DungeonResponse(2, List.of(new int[]{0, 0}));
+        when(dungeonService.calculateMinimumHP(eq(DungeonGrid.of(dungeon)), any()))
+                .thenReturn(mockResponse);
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(binaryBody(2, 3, 1, -3, 3, 0, -2, 0));
+        }
+
+        mockMvc.perform(post("/dungeon/solve/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Encoding", "gzip")
+                .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.minimumHP").value(2));
+    }
+
+    @Test
+    void postSolveBinary_WithTruncatedBody_ReturnsInvalidDungeonInputError() throws Exception {
+        mockMvc.perform(post("/dungeon/solve/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .content(binaryBody(2, 2, 1, 2, 3)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("ended after 3 of 4 cells")))
+                .andExpect(jsonPath("$.error", is("Bad Request")));
+    }
+
+    @Test
+    void postSolveBinary_WithContentLengthShorterThanHeader_RejectsBeforeReadingCells() throws Exception {
+        byte[] body = binaryBody(1000, 1000, 1, 2, 3);
+
+        mockMvc.perform(post("/dungeon/solve/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Length", body.length)
+                .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("does not match 1000x1000 cells")));
+    }
+
+    @Test
+    void postSolveBinary_WithGridLargerThanReadBuffer_DecodesAllCells() throws Exception {
+        int[][] dungeon = new int[200][200];
+        int[] cells = new int[200 * 200];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = i % 7 - 3;
+            dungeon[i / 200][i % 200] = cells[i];
+        }
+        byte[] body = binaryBody(200, 200, cells);
+        when(dungeonService.calculateMinimumHP(eq(DungeonGrid.of(dungeon)), any()))
+                .thenReturn(new DungeonResponse(4, List.of()));
+
+        mockMvc.perform(post("/dungeon/solve/binary")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header("Content-Length", body.length)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.minimumHP").value(4));
+    }
+
+    @Test
+    void postSolveBatch_OverTotalCellLimit_RejectsWholeBatch() throws Exception {
+        inputProperties.setMaxBatchCells(4);
+
+        mockMvc.perform(post("/dungeon/solve/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[[[1,2,3]],[[4,5]]]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is("Dungeon batch cannot contain more than 4 cells")));
+    }
+
+    private static byte[] binaryBody(int rows, int cols, int... cells) {
+        ByteBuffer buffer = ByteBuffer.allocate((2 + cells.length) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(rows).putInt(cols);
+        for (int cell : cells) {
+            buffer.putInt(cell);
+        }
+        return buffer.array();
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.dungeongamekata.dto;
+
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonGridTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void deserialize_ValidGrid_ReadsRowMajorCells() throws Exception {
+        DungeonGrid grid = objectMapper.readValue("[[1,-3,3],[0,-2,0]]", DungeonGrid.class);
+
+        assertEquals(2, grid.rows());
+        assertEquals(3, grid.cols());
+        assertEquals("[[1,-3,3],[0,-2,0]]", objectMapper.writeValueAsString(grid));
+    }
+
+    @Test
+    void deserialize_LongerRow_RejectedBeforeRestOfBody() {
+        // the trailing garbage is never reached: the second row fails at its fourth value
+        InvalidDungeonInputException exception = assertThrows(InvalidDungeonInputException.class,
+                () -> objectMapper.readValue("[[1,2,3],[4,5,6,7", DungeonGrid.class));
+
+        assertEquals("All rows in dungeon must have the same length", exception.getMessage());
+    }
+
+    @Test
+    void deserialize_EmptyInputs_ReturnSameMessagesAsOf() {
+        assertEquals("Dungeon array cannot be null or empty", assertThrows(InvalidDungeonInputException.class,
+                () -> objectMapper.readValue("[]", DungeonGrid.class)).getMessage());
+        assertEquals("Dungeon array cannot have empty rows", assertThrows(InvalidDungeonInputException.class,
+                () -> objectMapper.readValue("[[]]", DungeonGrid.class)).getMessage());
+        assertEquals("All rows in dungeon must have the same length", assertThrows(InvalidDungeonInputException.class,
+                () -> objectMapper.readValue("[[1],[]]", DungeonGrid.class)).getMessage());
+    }
+
+    @Test
+    void deserialize_NonIntegerValue_FailsAsMalformedJson() {
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue("[[1.5]]", DungeonGrid.class));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readValue("{\"rows\":1}", DungeonGrid.class));
+    }
+
+    @Test
+    void deserialize_OverConfiguredLimits_Rejected() {
+        DungeonInputProperties properties = new DungeonInputProperties();
+        properties.setMaxRows(2);
+        properties.setMaxCols(3);
+        properties.setMaxCells(4);
+        DungeonGrid.Deserializer deserializer = new DungeonGrid.Deserializer(properties);
+
+        assertEquals("Dungeon exceeds the maximum of 2 rows or 3 columns", assertThrows(InvalidDungeonInputException.class,
+                () -> read(deserializer, "[[1],[2],[3]]")).getMessage());
+        assertEquals("Dungeon exceeds the maximum of 2 rows or 3 columns", assertThrows(InvalidDungeonInputException.class,
+                () -> read(deserializer, "[[1,2,3,4]]")).getMessage());
+        assertEquals("Dungeon exceeds the maximum of 4 cells", assertThrows(InvalidDungeonInputException.class,
+                () -> read(deserializer, "[[1,2,3],[4,5,6]]")).getMessage());
+    }
+
+    @Test
+    void of_OverConfiguredLimits_RejectedWithDeserializerMessages() {
+        DungeonInputProperties properties = new DungeonInputProperties();
+        properties.setMaxRows(2);
+        properties.setMaxCols(3);
+        properties.setMaxCells(4);
+
+        assertEquals("Dungeon exceeds the maximum of 2 rows or 3 columns", assertThrows(InvalidDungeonInputException.class,
+                () -> DungeonGrid.of(new int[][]{{1}, {2}, {3}}, properties)).getMessage());
+        assertEquals("Dungeon exceeds the maximum of 4 cells", assertThrows(InvalidDungeonInputException.class,
+                () -> DungeonGrid.of(new int[][]{{1, 2, 3}, {4, 5, 6}}, properties)).getMessage());
+        assertEquals(4, DungeonGrid.of(new int[][]{{1, 2}, {3, 4}}, properties).cellCount());
+    }
+
+    private DungeonGrid read(DungeonGrid.Deserializer deserializer, String json) throws IOException {
+        try (JsonParser parser = objectMapper.createParser(json)) {
+            parser.nextToken();
+            return deserializer.deserialize(parser, ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                    .createInstance(objectMapper.getDeserializationConfig(), parser, null));
+        }
+    }
+}
@@ -77,6 +77,35 @@ class GlobalExceptionHandlerTest {
         assertEquals("Bad Request", errorResponse.getError());
     }
 
+    @Test
+    void handleHttpMessageNotReadableException_CausedByInvalidInput_ReturnsInputMessage() {
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException("JSON parse error",
+                new InvalidDungeonInputException("All rows in dungeon must have the same length"));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleHttpMessageNotReadableException(exception, webRequest);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("All rows in dungeon must have the same length", errorResponse.getMessage());
+        assertEquals("Bad Request", errorResponse.getError());
+    }
+
+    @Test
+    void logRateLimiter_OverLimit_ReportsSuppressedCountInNextWindow() {
+        long[] now = {0};
+        LogRateLimiter limiter = new LogRateLimiter(2, () -> now[0]);
+
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+        assertEquals(-1, limiter.tryAcquire());
+
+        now[0] = 1_000_000_000L;
+        assertEquals(2, limiter.tryAcquire());
+        assertEquals(0, limiter.tryAcquire());
+    }
+
     @Test
     void handleMethodArgumentNotValidException_ReturnsValidationError() {
         MethodArgumentNotValidException exception = mock(MethodArgumentNotValidException.class);
@@ -167,4 +196,20 @@ class GlobalExceptionHandlerTest {
         assertEquals("Bad Request", errorResponse.getError());
         assertNotNull(errorResponse.getTimestamp());
     }
+
+    @Test
+    void handleSolverOverloadedException_ReturnsStatusWithRetryAfter() {
+        SolverOverloadedException exception =
+                new SolverOverloadedException("Solver queue is full, retry later", HttpStatus.TOO_MANY_REQUESTS);
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleSolverOverloadedException(exception, webRequest);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        ErrorResponse errorResponse = response.getBody();
+        assertNotNull(errorResponse);
+        assertEquals("Solver queue is full, retry later", errorResponse.getMessage());
+        assertEquals(429, errorResponse.getStatusCode());
+        assertEquals("Too Many Requests", errorResponse.getError());
+    }
 }
@@ -0,0 +1,123 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.repository.ModelRunRepository;
+import com.example.dungeongamekata.repository.StoredResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DungeonCacheWarmupTest {
+
+    @Mock
+    private ModelRunRepository modelRunRepository;
+
+    private DungeonCacheProperties properties;
+    private DungeonResultCache resultCache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DungeonCacheProperties();
+        resultCache = new DungeonResultCache(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void warmUp_StoredResults_AreLoadedNewestFirstPageByPage() {
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(Long.MAX_VALUE))
+                .thenReturn(List.of(stored(9, 1), stored(7, 2)));
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(7L))
+                .thenReturn(List.of(stored(3, 3)));
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(3L))
+                .thenReturn(List.of());
+        DungeonCacheWarmup warmup = new DungeonCacheWarmup(modelRunRepository, resultCache, properties);
+
+        assertEquals(3, warmup.warmUp());
+
+        assertEquals(DungeonCacheWarmup.State.DONE, warmup.state());
+        assertEquals(2, resultCache.get(GridDigest.fromBytes(hash(7))).orElseThrow().minimumHP());
+        assertTrue(resultCache.get(GridDigest.fromBytes(hash(3))).isPresent());
+    }
+
+    @Test
+    void warmUp_MaxEntriesReached_StopsReading() {
+        properties.getWarmup().setMaxEntries(1);
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(anyLong()))
+                .thenReturn(List.of(stored(9, 1), stored(7, 2)));
+        DungeonCacheWarmup warmup = new DungeonCacheWarmup(modelRunRepository, resultCache, properties);
+
+        assertEquals(1, warmup.warmUp());
+
+        assertTrue(resultCache.get(GridDigest.fromBytes(hash(7))).isEmpty());
+        verify(modelRunRepository, times(1))
+                .findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(anyLong());
+    }
+
+    @Test
+    void warmUp_CellBudgetReached_StopsReading() {
+        // each stored result covers a 1x2 grid
+        properties.setMaxCells(3);
+        resultCache = new DungeonResultCache(properties, new SimpleMeterRegistry());
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(anyLong()))
+                .thenReturn(List.of(stored(9, 1), stored(7, 2)));
+        DungeonCacheWarmup warmup = new DungeonCacheWarmup(modelRunRepository, resultCache, properties);
+
+        assertEquals(1, warmup.warmUp());
+
+        assertEquals(DungeonCacheWarmup.State.DONE, warmup.state());
+        assertTrue(resultCache.get(GridDigest.fromBytes(hash(7))).isEmpty());
+        verify(modelRunRepository, times(1))
+                .findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(anyLong());
+    }
+
+    @Test
+    void health_WhileWarmingUp_IsOutOfServiceAndUpAfterFailure() {
+        when(modelRunRepository.findTop500ByIdLessThanAndInputHashIsNotNullAndOutputBinIsNotNullOrderByIdDesc(anyLong()))
+                .thenThrow(new RuntimeException("database down"));
+        DungeonCacheWarmup warmup = new DungeonCacheWarmup(modelRunRepository, resultCache, properties);
+        CacheWarmupHealthIndicator health = new CacheWarmupHealthIndicator(warmup, properties);
+
+        assertEquals(Status.OUT_OF_SERVICE, health.health().getStatus());
+        assertEquals(0, warmup.warmUp());
+
+        assertEquals(DungeonCacheWarmup.State.FAILED, warmup.state());
+        assertEquals(Status.UP, health.health().getStatus());
+    }
+
+    private static StoredResult stored(long id, int minimumHP) {
+        byte[] outputBin = DungeonResultCodec.encode(new DungeonResponse(minimumHP, List.of(new int[]{0, 0}, new int[]{0, 1})));
+        return new StoredResult() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public byte[] getInputHash() {
+                return hash(id);
+            }
+
+            @Override
+            public byte[] getOutputBin() {
+                return outputBin;
+            }
+        };
+    }
+
+    private static byte[] hash(long id) {
+        byte[] hash = new byte[32];
+        hash[0] = (byte) id;
+        return hash;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonJobProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonJobStatus;
+import com.example.dungeongamekata.dto.DungeonJobStatus.State;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.exception.DungeonJobNotFoundException;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import com.example.dungeongamekata.solver.SolveProgress;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DungeonJobServiceTest {
+
+    private static final DungeonGrid GRID = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+    @Mock
+    private DungeonService dungeonService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DungeonJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DungeonJobProperties properties = new DungeonJobProperties();
+        properties.setMaxActive(1);
+        properties.setQueueCapacity(1);
+        properties.setMaxSubscribers(1);
+        jobService = new DungeonJobService(dungeonService, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+    }
+
+    @Test
+    void submit_SolvedJob_ReportsDoneWithResult() throws Exception {
+        when(dungeonService.calculateMinimumHPInBackground(any(), any(), any())).thenAnswer(invocation -> {
+            ((SolveProgress) invocation.getArgument(2)).rowsCompleted(3);
+            return new DungeonResponse(3, List.of(new int[]{0, 0}));
+        });
+
+        String jobId = jobService.submit(GRID, SolveOptions.DEFAULT).jobId();
+        DungeonJobStatus status = awaitFinished(jobId);
+
+        assertEquals(State.DONE, status.state());
+        assertEquals(3, status.minimumHP());
+        assertEquals(3, status.rowsCompleted());
+        assertEquals(1.0, meterRegistry.get("dungeon.jobs.finished").tag("outcome", "done").counter().count());
+    }
+
+    @Test
+    void cancel_RunningJob_StopsAtNextProgressReport() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dungeonService.calculateMinimumHPInBackground(any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            ((SolveProgress) invocation.getArgument(2)).rowsCompleted(1);
+            return new DungeonResponse(3, List.of(new int[]{0, 0}));
+        });
+
+        String jobId = jobService.submit(GRID, SolveOptions.DEFAULT).jobId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        DungeonJobStatus cancelled = jobService.cancel(jobId);
+        release.countDown();
+
+        assertEquals(State.CANCELLED, cancelled.state());
+        assertEquals(State.CANCELLED, awaitFinished(jobId).state());
+        assertNull(jobService.status(jobId).minimumHP());
+    }
+
+    @Test
+    void cancel_JobWaitingForSolverMemory_EndsCancelledNotFailed() throws Exception {
+        CountDownLatch waiting = new CountDownLatch(1);
+        when(dungeonService.calculateMinimumHPInBackground(any(), any(), any())).thenAnswer(invocation -> {
+            waiting.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for solver memory", e);
+            }
+            return new DungeonResponse(3, List.of(new int[]{0, 0}));
+        });
+
+        String jobId = jobService.submit(GRID, SolveOptions.DEFAULT).jobId();
+        assertTrue(waiting.await(5, TimeUnit.SECONDS));
+        jobService.cancel(jobId);
+
+        DungeonJobStatus status = awaitFinished(jobId);
+        assertEquals(State.CANCELLED, status.state());
+        assertNull(status.error());
+        assertEquals(0.0, meterRegistry.get("dungeon.jobs.finished").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    void subscribe_TooManyStreams_IsRejectedWith429() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dungeonService.calculateMinimumHPInBackground(any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new DungeonResponse(3, List.of(new int[]{0, 0}));
+        });
+
+        String jobId = jobService.submit(GRID, SolveOptions.DEFAULT).jobId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        jobService.subscribe(jobId);
+        SolverOverloadedException rejected = assertThrows(SolverOverloadedException.class,
+                () -> jobService.subscribe(jobId));
+        release.countDown();
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatus());
+    }
+
+    @Test
+    void submit_QueueFull_IsRejectedWith429() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(dungeonService.calculateMinimumHPInBackground(any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new DungeonResponse(3, List.of(new int[]{0, 0}));
+        });
+
+        jobService.submit(GRID, SolveOptions.DEFAULT);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        DungeonJobStatus queued = jobService.submit(GRID, SolveOptions.DEFAULT);
+        SolverOverloadedException rejected = assertThrows(SolverOverloadedException.class,
+                () -> jobService.submit(GRID, SolveOptions.DEFAULT));
+        release.countDown();
+
+        assertEquals(State.QUEUED, queued.state());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatus());
+    }
+
+    @Test
+    void progress_StalledSubscriber_DoesNotBlockSolverThread() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicInteger sent = new AtomicInteger();
+        SseEmitter stalled = new SseEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                sent.incrementAndGet();
+            }
+
+            @Override
+            public void complete() {
+                completed.countDown();
+            }
+        };
+        ExecutorService events = Executors.newCachedThreadPool();
+        try {
+            DungeonJob job = new DungeonJob("job", GRID, SolveOptions.DEFAULT, 1000, 16, events);
+            job.subscribe(stalled);
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            assertTimeout(Duration.ofSeconds(1), () -> {
+                job.start();
+                job.progress(1);
+                job.progress(2);
+                job.succeed(new DungeonResponse(3, List.of(new int[]{0, 0})));
+            });
+            unblock.countDown();
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            // first progress, one coalesced progress, result, one path chunk, end
+            assertEquals(5, sent.get());
+        } finally {
+            events.shutdownNow();
+        }
+    }
+
+    @Test
+    void status_UnknownJob_ThrowsNotFound() {
+        assertThrows(DungeonJobNotFoundException.class, () -> jobService.status("missing"));
+    }
+
+    private DungeonJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        DungeonJobStatus status = jobService.status(jobId);
+        while (!status.state().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+            status = jobService.status(jobId);
+        }
+        return status;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonPath;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.solver.DpBufferPool;
+import com.example.dungeongamekata.solver.ScalarDungeonSolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonResultCodecTest {
+
+    private final ScalarDungeonSolver solver = new ScalarDungeonSolver(
+            new DpBufferPool(new SolverProperties(), new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+    @Test
+    void decode_EncodedResponse_RestoresMinimumHPAndPath() {
+        Random random = new Random(7);
+        for (int[] shape : new int[][]{{1, 1}, {1, 9}, {9, 1}, {3, 3}, {17, 5}, {40, 64}}) {
+            int[][] cells = new int[shape[0]][shape[1]];
+            for (int[] row : cells) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt(21) - 12;
+                }
+            }
+            DungeonResponse expected = solver.solve(DungeonGrid.of(cells));
+
+            DungeonResponse decoded = DungeonResultCodec.decode(DungeonResultCodec.encode(expected));
+
+            assertEquals(expected.minimumHP(), decoded.minimumHP());
+            assertEquals(expected.path().size(), decoded.path().size());
+            for (int i = 0; i < expected.path().size(); i++) {
+                assertArrayEquals(expected.path().get(i), decoded.path().get(i));
+            }
+        }
+    }
+
+    @Test
+    void encode_LargeGrid_StoresOneBitPerMove() {
+        int[][] cells = new int[1000][1000];
+
+        byte[] encoded = DungeonResultCodec.encode(solver.solve(DungeonGrid.of(cells)));
+
+        assertEquals(13 + DungeonPath.moveBytes(1000, 1000), encoded.length);
+    }
+
+    @Test
+    void decode_PathSerializesLikeCoordinateList() throws Exception {
+        DungeonResponse response = new DungeonResponse(3,
+                List.of(new int[]{0, 0}, new int[]{0, 1}, new int[]{0, 2}, new int[]{1, 2}, new int[]{2, 2}));
+
+        String json = new ObjectMapper().writeValueAsString(DungeonResultCodec.decode(DungeonResultCodec.encode(response)));
+
+        assertEquals("{\"minimumHP\":3,\"path\":[[0,0],[0,1],[0,2],[1,2],[2,2]]}", json);
+    }
+
+    @Test
+    void decode_PathConvertsToMoveString() {
+        DungeonResponse response = new DungeonResponse(3,
+                List.of(new int[]{0, 0}, new int[]{1, 0}, new int[]{1, 1}, new int[]{1, 2}, new int[]{2, 2}));
+
+        DungeonPath path = (DungeonPath) DungeonResultCodec.decode(DungeonResultCodec.encode(response)).path();
+
+        assertEquals("DRRD", path.toMoves());
+    }
+
+    @Test
+    void encode_NonMonotonePath_IsRejected() {
+        DungeonResponse response = new DungeonResponse(1, List.of(new int[]{0, 0}, new int[]{1, 1}));
+
+        assertThrows(IllegalArgumentException.class, () -> DungeonResultCodec.encode(response));
+    }
+}
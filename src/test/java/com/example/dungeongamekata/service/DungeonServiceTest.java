@@ -0,0 +1,337 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonCacheProperties;
+import com.example.dungeongamekata.config.DungeonInputProperties;
+import com.example.dungeongamekata.config.DungeonSharedCacheProperties;
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.BatchItemResponse;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.dto.ModelRun;
+import com.example.dungeongamekata.dto.PathFormat;
+import com.example.dungeongamekata.dto.SolveOptions;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import com.example.dungeongamekata.repository.ResultStore;
+import com.example.dungeongamekata.solver.DpBufferPool;
+import com.example.dungeongamekata.solver.DungeonSolverSelector;
+import com.example.dungeongamekata.solver.LowMemoryDungeonSolver;
+import com.example.dungeongamekata.solver.ScalarDungeonSolver;
+import com.example.dungeongamekata.solver.SimdDungeonSolver;
+import com.example.dungeongamekata.solver.SolverExecutor;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
+import com.example.dungeongamekata.solver.WavefrontDungeonSolver;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DungeonServiceTest {
+
+    @Mock
+    private ResultStore resultStore;
+
+    @Mock
+    private ModelRunWriteBehind modelRunWriteBehind;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DungeonInputProperties inputProperties;
+    private DungeonService dungeonService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inputProperties = new DungeonInputProperties();
+        dungeonService = newService(SharedResultCache.NONE);
+    }
+
+    private DungeonService newService(SharedResultCache sharedCache) {
+        DungeonResultCache resultCache = new DungeonResultCache(new DungeonCacheProperties(), meterRegistry);
+        SolverProperties solverProperties = new SolverProperties();
+        LowMemoryDungeonSolver lowMemorySolver = new LowMemoryDungeonSolver(meterRegistry);
+        DpBufferPool buffers = new DpBufferPool(solverProperties, meterRegistry);
+        ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(buffers, meterRegistry);
+        DungeonSolverSelector solvers = new DungeonSolverSelector(scalarSolver,
+                new WavefrontDungeonSolver(buffers, solverProperties, meterRegistry), lowMemorySolver,
+                new SimdDungeonSolver(scalarSolver, buffers, solverProperties, meterRegistry), solverProperties);
+        return new DungeonService(resultStore, modelRunWriteBehind, new ObjectMapper(), resultCache, sharedCache,
+                solvers, new SolverExecutor(solverProperties, meterRegistry),
+                new SolverMemoryBudget(lowMemorySolver, solverProperties, meterRegistry), solverProperties,
+                inputProperties, meterRegistry);
+    }
+
+    @Test
+    void calculateMinimumHP_ReturnsExpectedResult() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+
+        DungeonResponse response = dungeonService.calculateMinimumHP(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        assertEquals(3, response.minimumHP());
+        assertEquals(5, response.path().size());
+    }
+
+    @Test
+    void calculateMinimumHP_RepeatedGrid_IsServedFromLocalCache() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{-2, -3, 3}, {-5, -10, 1}, {10, 30, -5}});
+
+        DungeonResponse first = dungeonService.calculateMinimumHP(dungeon);
+        DungeonResponse second = dungeonService.calculateMinimumHP(dungeon);
+
+        assertEquals(7, first.minimumHP());
+        assertSame(first, second);
+        verify(resultStore, times(1)).findByInputHash(any());
+        verify(modelRunWriteBehind, times(1)).enqueue(any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", DungeonResultCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void calculateMinimumHP_SolvedOnOtherReplica_IsServedFromSharedCache() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+        SharedResultCache sharedCache = new InMemorySharedResultCache(new DungeonSharedCacheProperties());
+        DungeonService replica1 = newService(sharedCache);
+        DungeonService replica2 = newService(sharedCache);
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{-2, -3, 3}, {-5, -10, 1}, {10, 30, -5}});
+
+        DungeonResponse solved = replica1.calculateMinimumHP(dungeon);
+        DungeonResponse shared = replica2.calculateMinimumHP(dungeon);
+
+        assertEquals(7, shared.minimumHP());
+        assertEquals(solved.path().size(), shared.path().size());
+        verify(resultStore, times(1)).findByInputHash(any());
+        verify(modelRunWriteBehind, times(1)).enqueue(any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("dungeon.cache.shared.lookups").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void calculateMinimumHP_SharedCacheDown_FallsBackToDatabaseAndSolver() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+        SharedResultCache sharedCache = mock(SharedResultCache.class);
+        when(sharedCache.get(any())).thenThrow(new IllegalStateException("connection refused"));
+        doThrow(new IllegalStateException("connection refused")).when(sharedCache).put(any(), any());
+
+        DungeonResponse response = newService(sharedCache)
+                .calculateMinimumHP(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        assertEquals(3, response.minimumHP());
+        assertEquals(2.0, meterRegistry.get("dungeon.cache.shared.lookups").tag("result", "error").counter().count());
+    }
+
+    @Test
+    void calculateMinimumHP_StoredRunWithDifferentInput_IsTreatedAsMiss() {
+        ModelRun collidingRun = ModelRun.of(new byte[32], "[[5]]",
+                DungeonResultCodec.encode(new DungeonResponse(99, List.of(new int[]{0, 0}))));
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.of(collidingRun));
+
+        DungeonResponse response = dungeonService.calculateMinimumHP(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        assertEquals(3, response.minimumHP());
+    }
+
+    @Test
+    void calculateMinimumHP_StoredBinaryAndLegacyJsonOutputs_AreBothReadable() {
+        DungeonResponse stored = new DungeonResponse(42, List.of(new int[]{0, 0}, new int[]{1, 0}, new int[]{2, 0},
+                new int[]{2, 1}, new int[]{2, 2}));
+        ModelRun binaryRun = ModelRun.of(new byte[32], "[[1,-3,3],[0,-2,0],[-3,-3,-3]]", DungeonResultCodec.encode(stored));
+        ModelRun legacyRun = new ModelRun(1L, new byte[32], "[[-4]]", "{\"minimumHP\":43,\"path\":[[0,0]]}", null, null);
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.of(binaryRun), Optional.of(legacyRun));
+
+        DungeonResponse binary = dungeonService.calculateMinimumHP(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+        DungeonResponse legacy = dungeonService.calculateMinimumHP(DungeonGrid.of(new int[][]{{-4}}));
+
+        assertEquals(42, binary.minimumHP());
+        assertArrayEquals(new int[]{2, 1}, binary.path().get(3));
+        assertEquals(43, legacy.minimumHP());
+        verify(modelRunWriteBehind, never()).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void calculateMinimumHP_MovesFormat_ReturnsMoveStringAndCachesCells() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+        DungeonResponse moves = dungeonService.calculateMinimumHP(dungeon, new SolveOptions(false, true, PathFormat.MOVES));
+        DungeonResponse cells = dungeonService.calculateMinimumHP(dungeon);
+
+        assertEquals(3, moves.minimumHP());
+        assertEquals("RRDD", moves.moves());
+        assertNull(moves.path());
+        assertEquals(5, cells.path().size());
+        assertNull(cells.moves());
+        verify(resultStore, times(1)).findByInputHash(any());
+    }
+
+    @Test
+    void calculateMinimumHP_Miss_RecordsEveryStage() {
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+
+        dungeonService.calculateMinimumHP(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        for (String stage : List.of("key", "cache", "store", "persistence")) {
+            assertEquals(1, meterRegistry.get("dungeon.solve.stage").tag("stage", stage).timer().count(), stage);
+        }
+        for (String stage : List.of("compute", "path")) {
+            assertEquals(1, meterRegistry.get("dungeon.solver.stage").tag("engine", "scalar").tag("stage", stage)
+                    .timer().count(), stage);
+        }
+        assertEquals(9.0, meterRegistry.get("dungeon.grid.cells").summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get("dungeon.store.lookups").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void calculateMinimumHPBatch_DeduplicatesGridsAndKeepsRequestOrder() {
+        when(resultStore.findByInputHashIn(any())).thenReturn(List.of());
+        int[][] readme = {{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}};
+        int[][] ragged = {{1, 2}, {3}};
+        int[][] single = {{-4}};
+
+        List<BatchItemResponse> results = dungeonService.calculateMinimumHPBatch(List.of(readme, ragged, single, readme));
+
+        assertEquals(4, results.size());
+        assertEquals(3, results.get(0).minimumHP());
+        assertEquals("All rows in dungeon must have the same length", results.get(1).error());
+        assertEquals(5, results.get(2).minimumHP());
+        assertEquals(3, results.get(3).minimumHP());
+        assertEquals(3, results.get(3).index());
+        verify(resultStore, times(1)).findByInputHashIn(argThat(hashes -> hashes.size() == 2));
+        verify(modelRunWriteBehind, times(2)).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void calculateMinimumHPBatch_GridOverLimits_FailsOnlyThatItem() {
+        when(resultStore.findByInputHashIn(any())).thenReturn(List.of());
+        inputProperties.setMaxCols(2);
+
+        List<BatchItemResponse> results = dungeonService.calculateMinimumHPBatch(
+                List.of(new int[][]{{1, 2, 3}}, new int[][]{{-4}}));
+
+        assertEquals("Dungeon exceeds the maximum of 10000 rows or 2 columns", results.get(0).error());
+        assertEquals(5, results.get(1).minimumHP());
+    }
+
+    @Test
+    void calculateMinimumHPBatch_ManySmallGridsOfOneShape_MatchSingleSolves() {
+        when(resultStore.findByInputHashIn(any())).thenReturn(List.of());
+        when(resultStore.findByInputHash(any())).thenReturn(Optional.empty());
+        Random random = new Random(3);
+        List<int[][]> dungeons = new ArrayList<>();
+        for (int k = 0; k < 37; k++) {
+            int[][] dungeon = new int[4][5];
+            for (int[] row : dungeon) {
+                for (int j = 0; j < row.length; j++) {
+                    row[j] = random.nextInt(21) - 15;
+                }
+            }
+            dungeons.add(dungeon);
+        }
+
+        List<BatchItemResponse> results = dungeonService.calculateMinimumHPBatch(dungeons);
+
+        DungeonService single = newService(SharedResultCache.NONE);
+        for (int k = 0; k < dungeons.size(); k++) {
+            DungeonResponse expected = single.calculateMinimumHP(DungeonGrid.of(dungeons.get(k)));
+            assertEquals(expected.minimumHP(), results.get(k).minimumHP());
+            assertArrayEquals(expected.path().toArray(new int[0][]), results.get(k).path().toArray(new int[0][]));
+        }
+    }
+
+    @Test
+    void calculateMinimumHP_ConcurrentIdenticalGrids_ShareOneSolve() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(resultStore.findByInputHash(any())).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+        CompletableFuture<DungeonResponse> leader = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<DungeonResponse> follower = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        while (meterRegistry.get("dungeon.solve.coalesced").counter().count() < 1) {
+            Thread.sleep(5);
+        }
+        releaseLookup.countDown();
+
+        assertSame(leader.get(5, TimeUnit.SECONDS), follower.get(5, TimeUnit.SECONDS));
+        verify(resultStore, times(1)).findByInputHash(any());
+        verify(modelRunWriteBehind, times(1)).enqueue(any(), any(), any());
+    }
+
+    @Test
+    void calculateMinimumHP_LeaderRejectedAsOverloaded_FollowerGetsSameRejection() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(resultStore.findByInputHash(any())).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+        doThrow(new SolverOverloadedException("Solver memory is exhausted, retry later", HttpStatus.SERVICE_UNAVAILABLE))
+                .when(modelRunWriteBehind).enqueue(any(), any(), any());
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+        CompletableFuture<DungeonResponse> leader = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<DungeonResponse> follower = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        while (meterRegistry.get("dungeon.solve.coalesced").counter().count() < 1) {
+            Thread.sleep(5);
+        }
+        releaseLookup.countDown();
+
+        assertInstanceOf(SolverOverloadedException.class,
+                assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS)).getCause());
+        SolverOverloadedException rejected = assertInstanceOf(SolverOverloadedException.class,
+                assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS)).getCause());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+        verify(resultStore, times(1)).findByInputHash(any());
+    }
+
+    @Test
+    void calculateMinimumHP_LeaderFails_FollowersShareOneNewLeader() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch releaseLookup = new CountDownLatch(1);
+        when(resultStore.findByInputHash(any())).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            releaseLookup.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        }).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("write-behind closed")).doNothing()
+                .when(modelRunWriteBehind).enqueue(any(), any(), any());
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+        CompletableFuture<DungeonResponse> leader = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        assertTrue(lookupStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<DungeonResponse> first = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        CompletableFuture<DungeonResponse> second = CompletableFuture.supplyAsync(() -> dungeonService.calculateMinimumHP(dungeon));
+        while (meterRegistry.get("dungeon.solve.coalesced").counter().count() < 2) {
+            Thread.sleep(5);
+        }
+        releaseLookup.countDown();
+
+        assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertEquals(3, first.get(5, TimeUnit.SECONDS).minimumHP());
+        assertEquals(3, second.get(5, TimeUnit.SECONDS).minimumHP());
+        verify(modelRunWriteBehind, times(2)).enqueue(any(), any(), any());
+    }
+}
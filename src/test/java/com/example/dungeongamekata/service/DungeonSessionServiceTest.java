@@ -0,0 +1,114 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonSessionProperties;
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.CellEdit;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonSessionResponse;
+import com.example.dungeongamekata.exception.DungeonSessionNotFoundException;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import com.example.dungeongamekata.solver.LowMemoryDungeonSolver;
+import com.example.dungeongamekata.solver.SolverExecutor;
+import com.example.dungeongamekata.solver.SolverMemoryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonSessionServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DungeonSessionProperties sessionProperties;
+    private SolverProperties solverProperties;
+    private SolverMemoryBudget budget;
+    private DungeonSessionService sessionService;
+
+    @BeforeEach
+    void setUp() {
+        sessionProperties = new DungeonSessionProperties();
+        solverProperties = new SolverProperties();
+        sessionService = newService();
+    }
+
+    private DungeonSessionService newService() {
+        // a fresh registry, so the gauges follow the new budget rather than the one from setUp
+        meterRegistry = new SimpleMeterRegistry();
+        budget = new SolverMemoryBudget(new LowMemoryDungeonSolver(meterRegistry), solverProperties, meterRegistry);
+        return new DungeonSessionService(sessionProperties, new SolverExecutor(solverProperties, meterRegistry),
+                budget, meterRegistry);
+    }
+
+    @Test
+    void edit_OpenSession_ReturnsUpdatedAnswer() {
+        DungeonSessionResponse created = sessionService.create(
+                DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        DungeonSessionResponse edited = sessionService.edit(created.sessionId(), List.of(new CellEdit(0, 1, 5)));
+
+        assertEquals(3, created.minimumHP());
+        assertEquals(9, created.recomputedCells());
+        assertEquals(created.sessionId(), edited.sessionId());
+        assertEquals(2, edited.recomputedCells());
+        assertEquals(5, edited.path().size());
+        assertEquals(1.0, meterRegistry.get("dungeon.session.recomputed.cells").summary().count());
+    }
+
+    @Test
+    void edit_ClosedSession_ThrowsNotFound() {
+        String sessionId = sessionService.create(DungeonGrid.of(new int[][]{{-4}})).sessionId();
+
+        sessionService.close(sessionId);
+
+        assertThrows(DungeonSessionNotFoundException.class,
+                () -> sessionService.edit(sessionId, List.of(new CellEdit(0, 0, 1))));
+    }
+
+    @Test
+    void create_GridOverSessionCellLimit_RejectedUpFront() {
+        sessionProperties.setMaxCells(4);
+        sessionService = newService();
+
+        InvalidDungeonInputException exception = assertThrows(InvalidDungeonInputException.class,
+                () -> sessionService.create(DungeonGrid.of(new int[][]{{1, 2, 3}, {4, 5, 6}})));
+
+        assertEquals("Dungeon exceeds the session maximum of 4 cells", exception.getMessage());
+        assertEquals(0.0, reservedCells());
+    }
+
+    @Test
+    void createAndEdit_ReserveDpTableOnlyWhileSolving() {
+        solverProperties.getMemory().setBudgetCells(20);
+        solverProperties.getMemory().setMaxWait(Duration.ZERO);
+        sessionService = newService();
+        DungeonGrid grid = DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}});
+
+        String first = sessionService.create(grid).sessionId();
+        String second = sessionService.create(grid).sessionId();
+        assertEquals(0.0, reservedCells());
+
+        sessionService.edit(first, List.of(new CellEdit(0, 1, 5)));
+        sessionService.edit(second, List.of(new CellEdit(0, 1, 5)));
+        assertEquals(0.0, reservedCells());
+    }
+
+    @Test
+    void create_DpTableOverMemoryBudget_RejectedWith503() {
+        solverProperties.getMemory().setBudgetCells(20);
+        solverProperties.getMemory().setMaxWait(Duration.ZERO);
+        sessionService = newService();
+        SolverMemoryBudget.Reservation held = budget.reserveCells(10);
+
+        assertThrows(SolverOverloadedException.class,
+                () -> sessionService.create(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}})));
+        held.close();
+    }
+
+    private double reservedCells() {
+        return meterRegistry.get("dungeon.solver.memory.reserved.cells").gauge().value();
+    }
+}
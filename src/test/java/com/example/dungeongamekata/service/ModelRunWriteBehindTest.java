@@ -0,0 +1,115 @@
+package com.example.dungeongamekata.service;
+
+import com.example.dungeongamekata.config.DungeonStoreProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.repository.ResultStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ModelRunWriteBehindTest {
+
+    @Mock
+    private ResultStore resultStore;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ModelRunWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        writeBehind = writeBehind(2, 1_000);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writeBehind.shutdown();
+    }
+
+    @Test
+    void enqueue_CoalescesDuplicatesAndDropsWhenFull() {
+        DungeonResponse response = new DungeonResponse(1, List.of(new int[]{0, 0}));
+
+        enqueue(new int[][]{{1}}, response);
+        enqueue(new int[][]{{1}}, response);
+        enqueue(new int[][]{{2}}, response);
+        enqueue(new int[][]{{3}}, response);
+        writeBehind.flush();
+
+        verify(resultStore, times(1)).saveAll(argThat(runs -> runs.size() == 2));
+        assertEquals(1.0, meterRegistry.get("dungeon.persistence.coalesced").counter().count());
+        assertEquals(1.0, meterRegistry.get("dungeon.persistence.dropped").tag("reason", "queue_full").counter().count());
+        assertEquals(2.0, meterRegistry.get("dungeon.persistence.written").counter().count());
+    }
+
+    @Test
+    void enqueue_OverCellBudget_DropsUntilFlushed() throws InterruptedException {
+        writeBehind.shutdown();
+        writeBehind = writeBehind(10, 6);
+        DungeonResponse response = new DungeonResponse(1, List.of(new int[]{0, 0}));
+
+        enqueue(new int[][]{{1, 2}, {3, 4}}, response);
+        enqueue(new int[][]{{1, 2, 3}}, response);
+        enqueue(new int[][]{{5, 6}}, response);
+        assertEquals(6.0, meterRegistry.get("dungeon.persistence.pending.cells").gauge().value());
+        writeBehind.flush();
+
+        verify(resultStore, times(1)).saveAll(argThat(runs -> runs.size() == 2));
+        assertEquals(1.0, meterRegistry.get("dungeon.persistence.dropped").tag("reason", "cell_budget").counter().count());
+        assertEquals(0.0, meterRegistry.get("dungeon.persistence.pending.cells").gauge().value());
+
+        enqueue(new int[][]{{1, 2, 3}}, response);
+        assertEquals(3.0, meterRegistry.get("dungeon.persistence.pending.cells").gauge().value());
+    }
+
+    @Test
+    void enqueue_AfterShutdown_DropsWithoutThrowing() throws InterruptedException {
+        writeBehind.shutdown();
+
+        assertDoesNotThrow(() -> enqueue(new int[][]{{1}}, new DungeonResponse(1, List.of(new int[]{0, 0}))));
+
+        verify(resultStore, never()).saveAll(any());
+        assertEquals(1.0, meterRegistry.get("dungeon.persistence.dropped").tag("reason", "shutdown").counter().count());
+        assertEquals(0.0, meterRegistry.get("dungeon.persistence.pending").gauge().value());
+    }
+
+    @Test
+    void flush_WhenDatabaseFails_CountsFailuresWithoutThrowing() {
+        doThrow(new RuntimeException("connection refused")).when(resultStore).saveAll(any());
+
+        enqueue(new int[][]{{1, 2}}, new DungeonResponse(1, List.of(new int[]{0, 0}, new int[]{0, 1})));
+        writeBehind.flush();
+
+        assertEquals(1.0, meterRegistry.get("dungeon.persistence.failed").counter().count());
+        assertEquals(0.0, meterRegistry.get("dungeon.persistence.pending").gauge().value());
+    }
+
+    private ModelRunWriteBehind writeBehind(int queueCapacity, long maxPendingCells) {
+        DungeonStoreProperties properties = new DungeonStoreProperties();
+        properties.getWriteBehind().setQueueCapacity(queueCapacity);
+        properties.getWriteBehind().setMaxPendingCells(maxPendingCells);
+        properties.getWriteBehind().setBatchSize(10);
+        properties.getWriteBehind().setFlushInterval(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        return new ModelRunWriteBehind(resultStore, new ObjectMapper(), properties, meterRegistry);
+    }
+
+    private void enqueue(int[][] dungeon, DungeonResponse response) {
+        DungeonGrid grid = DungeonGrid.of(dungeon);
+        writeBehind.enqueue(GridDigest.of(grid), grid, response);
+    }
+}
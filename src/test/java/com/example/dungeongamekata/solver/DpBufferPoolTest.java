@@ -0,0 +1,55 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DpBufferPoolTest {
+
+    @Test
+    void acquire_AfterRelease_ReusesTableForAnySizeInClass() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DpBufferPool pool = new DpBufferPool(new SolverProperties(), meterRegistry);
+
+        int[] first = pool.acquire(3000);
+        assertEquals(4096, first.length);
+        pool.release(first);
+
+        assertSame(first, pool.acquire(2500));
+        assertNotSame(first, pool.acquire(2500));
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.buffers.acquired").tag("result", "reused").counter().count());
+        assertEquals(2.0, meterRegistry.get("dungeon.solver.buffers.acquired").tag("result", "allocated").counter().count());
+    }
+
+    @Test
+    void release_OverPooledCap_DropsTable() {
+        SolverProperties properties = new SolverProperties();
+        properties.getBuffers().setMaxPooledCells(5000);
+        DpBufferPool pool = new DpBufferPool(properties, new SimpleMeterRegistry());
+
+        int[] huge = pool.acquire(6000);
+        assertEquals(6000, huge.length);
+        pool.release(huge);
+        assertNotSame(huge, pool.acquire(6000));
+
+        int[] first = pool.acquire(4000);
+        int[] second = pool.acquire(4000);
+        pool.release(first);
+        pool.release(second);
+        assertSame(first, pool.acquire(4000));
+        assertNotSame(second, pool.acquire(4000));
+    }
+
+    @Test
+    void allocatedCells_MatchesLengthOfAcquiredTable() {
+        SolverProperties properties = new SolverProperties();
+        properties.getBuffers().setMaxPooledCells(5000);
+        DpBufferPool pool = new DpBufferPool(properties, new SimpleMeterRegistry());
+
+        for (int cells : new int[]{1, 303, 1024, 3000, 4096, 4097, 6000}) {
+            assertEquals(pool.acquire(cells).length, pool.allocatedCells(cells), "cells: " + cells);
+        }
+    }
+}
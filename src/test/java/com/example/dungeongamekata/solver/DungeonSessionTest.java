@@ -0,0 +1,66 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.CellEdit;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import com.example.dungeongamekata.exception.InvalidDungeonInputException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.dungeongamekata.solver.SolverTestGrids.randomCells;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DungeonSessionTest {
+
+    private final ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(
+            new DpBufferPool(new SolverProperties(), new SimpleMeterRegistry()), new SimpleMeterRegistry());
+
+    @Test
+    void apply_RandomEdits_MatchFullScalarSolve() {
+        Random random = new Random(11);
+        int[][] shapes = {{1, 1}, {1, 9}, {9, 1}, {3, 3}, {17, 5}, {40, 64}};
+
+        for (int[] shape : shapes) {
+            int[][] cells = randomCells(random, shape[0], shape[1], -12, 8);
+            DungeonSession session = DungeonSession.start(DungeonGrid.of(cells));
+
+            for (int round = 0; round < 20; round++) {
+                List<CellEdit> edits = new ArrayList<>();
+                for (int e = random.nextInt(3) + 1; e > 0; e--) {
+                    CellEdit edit = new CellEdit(random.nextInt(shape[0]), random.nextInt(shape[1]), random.nextInt(21) - 12);
+                    cells[edit.row()][edit.col()] = edit.value();
+                    edits.add(edit);
+                }
+                session.apply(edits);
+
+                DungeonResponse expected = scalarSolver.solve(DungeonGrid.of(cells));
+                DungeonResponse actual = session.response();
+                assertEquals(expected.minimumHP(), actual.minimumHP());
+                assertArrayEquals(expected.path().toArray(new int[0][]), actual.path().toArray(new int[0][]));
+            }
+        }
+    }
+
+    @Test
+    void apply_SingleEdit_RecomputesOnlyRegionAboveAndLeft() {
+        DungeonSession session = DungeonSession.start(DungeonGrid.of(new int[10][20]));
+
+        assertEquals(12, session.apply(List.of(new CellEdit(2, 3, -5))));
+        assertEquals(1, session.apply(List.of(new CellEdit(0, 0, 4))));
+        assertEquals(200, session.apply(List.of(new CellEdit(9, 19, -1))));
+    }
+
+    @Test
+    void apply_EditOutsideGrid_IsRejectedWithoutChanges() {
+        DungeonSession session = DungeonSession.start(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        assertThrows(InvalidDungeonInputException.class,
+                () -> session.apply(List.of(new CellEdit(0, 0, -100), new CellEdit(3, 0, 1))));
+        assertEquals(3, session.response().minimumHP());
+    }
+}
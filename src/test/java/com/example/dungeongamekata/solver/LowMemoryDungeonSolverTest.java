@@ -0,0 +1,64 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.dungeongamekata.solver.SolverTestGrids.randomDungeon;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LowMemoryDungeonSolverTest {
+
+    private final ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(
+            new DpBufferPool(new SolverProperties(), new SimpleMeterRegistry()), new SimpleMeterRegistry());
+    private final LowMemoryDungeonSolver lowMemorySolver = new LowMemoryDungeonSolver(new SimpleMeterRegistry());
+
+    @Test
+    void solve_ReadmeExample_ReturnsExpectedPath() {
+        DungeonResponse response = lowMemorySolver.solve(DungeonGrid.of(new int[][]{{1, -3, 3}, {0, -2, 0}, {-3, -3, -3}}));
+
+        assertEquals(3, response.minimumHP());
+        assertArrayEquals(new int[][]{{0, 0}, {0, 1}, {0, 2}, {1, 2}, {2, 2}}, response.path().toArray(new int[0][]));
+    }
+
+    @Test
+    void solveAndMinimumHP_RandomGrids_MatchScalarSolver() {
+        Random random = new Random(42);
+        int[][] shapes = {{1, 1}, {1, 9}, {9, 1}, {2, 2}, {7, 3}, {3, 7}, {16, 16}, {50, 13}, {13, 50}};
+
+        for (int[] shape : shapes) {
+            for (int round = 0; round < 20; round++) {
+                DungeonGrid dungeon = randomDungeon(random, shape[0], shape[1], -12, 8);
+
+                DungeonResponse expected = scalarSolver.solve(dungeon);
+                DungeonResponse actual = lowMemorySolver.solve(dungeon);
+
+                assertEquals(expected.minimumHP(), actual.minimumHP());
+                assertEquals(expected.minimumHP(), lowMemorySolver.minimumHP(dungeon));
+                assertArrayEquals(expected.path().toArray(new int[0][]), actual.path().toArray(new int[0][]));
+            }
+        }
+    }
+
+    @Test
+    void solve_WithProgress_ReportsIncreasingRowsEndingWithAll() {
+        DungeonGrid dungeon = randomDungeon(new Random(5), 250, 40, -12, 8);
+
+        for (DungeonSolver solver : new DungeonSolver[]{scalarSolver, lowMemorySolver}) {
+            List<Integer> reported = new ArrayList<>();
+            solver.solve(dungeon, reported::add);
+
+            assertTrue(reported.size() >= 50 && reported.size() <= 100, "reports: " + reported.size());
+            for (int i = 1; i < reported.size(); i++) {
+                assertTrue(reported.get(i) > reported.get(i - 1));
+            }
+            assertEquals(250, reported.get(reported.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.dungeongamekata.solver.SolverTestGrids.randomDungeon;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimdDungeonSolverTest {
+
+    // One pool for both engines, so tables are reused across grid sizes with stale contents
+    private final DpBufferPool buffers = new DpBufferPool(new SolverProperties(), new SimpleMeterRegistry());
+    private final ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(buffers, new SimpleMeterRegistry());
+    private final SimdDungeonSolver simdSolver =
+            new SimdDungeonSolver(scalarSolver, buffers, new SolverProperties(), new SimpleMeterRegistry());
+
+    @Test
+    void solve_RandomGrids_MatchScalarSolver() {
+        Random random = new Random(23);
+        for (int round = 0; round < 500; round++) {
+            DungeonGrid dungeon = randomDungeon(random, 1 + random.nextInt(70), 1 + random.nextInt(70), -25, 15);
+
+            assertSameResult(scalarSolver.solve(dungeon), simdSolver.solve(dungeon));
+        }
+    }
+
+    @Test
+    void solvePacked_RandomGridsOfOneShape_MatchScalarSolver() {
+        Random random = new Random(7);
+        for (int round = 0; round < 50; round++) {
+            int rows = 1 + random.nextInt(20);
+            int cols = 1 + random.nextInt(20);
+            // Not a multiple of the lane count, so the last pass has empty lanes
+            List<DungeonGrid> dungeons = new ArrayList<>();
+            for (int k = 0; k < 2 * simdSolver.lanes() + 3; k++) {
+                dungeons.add(randomDungeon(random, rows, cols, -25, 15));
+            }
+
+            List<DungeonResponse> packed = simdSolver.solvePacked(dungeons);
+
+            assertEquals(dungeons.size(), packed.size());
+            for (int k = 0; k < dungeons.size(); k++) {
+                assertSameResult(scalarSolver.solve(dungeons.get(k)), packed.get(k));
+            }
+        }
+    }
+
+    @Test
+    void solvePacked_MixedShapes_Throws() {
+        List<DungeonGrid> dungeons = List.of(DungeonGrid.of(new int[][]{{1, 2}}), DungeonGrid.of(new int[][]{{1}, {2}}));
+
+        if (simdSolver.isVectorized()) {
+            assertThrows(IllegalArgumentException.class, () -> simdSolver.solvePacked(dungeons));
+        }
+    }
+
+    @Test
+    void solve_Disabled_FallsBackToScalar() {
+        SolverProperties properties = new SolverProperties();
+        properties.getSimd().setEnabled(false);
+        SimdDungeonSolver disabled = new SimdDungeonSolver(scalarSolver, buffers, properties, new SimpleMeterRegistry());
+        DungeonGrid dungeon = DungeonGrid.of(new int[][]{{-2, -3, 3}, {-5, -10, 1}, {10, 30, -5}});
+
+        assertFalse(disabled.isVectorized());
+        assertEquals(1, disabled.lanes());
+        assertEquals(7, disabled.solve(dungeon).minimumHP());
+    }
+
+    private static void assertSameResult(DungeonResponse expected, DungeonResponse actual) {
+        assertEquals(expected.minimumHP(), actual.minimumHP());
+        assertArrayEquals(expected.path().toArray(new int[0][]), actual.path().toArray(new int[0][]));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SolverProperties properties;
+    private SolverExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SolverProperties();
+        properties.getAdmission().setMaxConcurrent(1);
+        properties.getAdmission().setQueueCapacity(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void execute_ReturnsResultAndRethrowsTaskFailure() {
+        executor = new SolverExecutor(properties, meterRegistry);
+
+        assertEquals(42, executor.execute(() -> 42));
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> executor.execute(() -> { throw new IllegalStateException("boom"); }));
+        assertEquals("boom", failure.getMessage());
+    }
+
+    @Test
+    void execute_QueueFull_RejectsWithTooManyRequests() throws Exception {
+        executor = new SolverExecutor(properties, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> 2));
+        waitForQueueDepth(1);
+
+        SolverOverloadedException rejected = assertThrows(SolverOverloadedException.class,
+                () -> executor.execute(() -> 3));
+
+        release.countDown();
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+        assertEquals(2, queued.get(5, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, rejected.getStatus());
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.rejections").tag("reason", "queue_full").counter().count());
+    }
+
+    @Test
+    void execute_WaitedPastMaxQueueWait_RejectsWithServiceUnavailable() throws Exception {
+        properties.getAdmission().setMaxQueueWait(Duration.ofMillis(10));
+        executor = new SolverExecutor(properties, meterRegistry);
+        executor.execute(() -> 0); // start the worker so the first task is not charged for thread start-up
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return 1;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> 2));
+        waitForQueueDepth(1);
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals(1, running.get(5, TimeUnit.SECONDS));
+        Exception failure = assertThrows(Exception.class, () -> queued.get(5, TimeUnit.SECONDS));
+        SolverOverloadedException rejected = assertInstanceOf(SolverOverloadedException.class, failure.getCause());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.rejections").tag("reason", "queue_timeout").counter().count());
+    }
+
+    @Test
+    void execute_Disabled_RunsOnCallerThread() {
+        properties.getAdmission().setEnabled(false);
+        executor = new SolverExecutor(properties, meterRegistry);
+
+        assertSame(Thread.currentThread(), executor.execute(Thread::currentThread));
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("dungeon.solver.queue.depth").gauge().value() < depth) {
+            assertTrue(System.nanoTime() < deadline, "task was not queued");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.exception.SolverOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SolverMemoryBudgetTest {
+
+    // 100x2: the full table holds 303 cells, the low-memory engine 66
+    private static final DungeonGrid TALL_GRID = DungeonGrid.of(new int[100][2]);
+
+    private SimpleMeterRegistry meterRegistry;
+    private SolverProperties properties;
+    private ScalarDungeonSolver scalarSolver;
+    private LowMemoryDungeonSolver lowMemorySolver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new SolverProperties();
+        properties.getMemory().setBudgetCells(400);
+        properties.getMemory().setMaxWait(Duration.ZERO);
+        // exact table sizes; rounding to pooled sizes is covered separately
+        properties.getBuffers().setPooled(false);
+        scalarSolver = new ScalarDungeonSolver(new DpBufferPool(properties, meterRegistry), meterRegistry);
+        lowMemorySolver = new LowMemoryDungeonSolver(meterRegistry);
+    }
+
+    @Test
+    void reserve_FitsBudget_KeepsPreferredEngineUntilClosed() {
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(TALL_GRID, scalarSolver)) {
+            assertSame(scalarSolver, reservation.solver());
+            assertEquals(303.0, reservedCells());
+        }
+        assertEquals(0.0, reservedCells());
+    }
+
+    @Test
+    void reserve_FullTableOverThreshold_RoutesToLowMemory() {
+        properties.getMemory().setLowMemoryThresholdCells(300);
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(TALL_GRID, scalarSolver)) {
+            assertSame(lowMemorySolver, reservation.solver());
+            assertEquals(66.0, reservedCells());
+        }
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.memory.downgrades").tag("reason", "threshold").counter().count());
+    }
+
+    @Test
+    void reserve_BudgetTaken_FallsBackToLowMemoryThenRejects() {
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        SolverMemoryBudget.Reservation first = budget.reserve(TALL_GRID, scalarSolver);
+        SolverMemoryBudget.Reservation second = budget.reserve(TALL_GRID, scalarSolver);
+        assertSame(lowMemorySolver, second.solver());
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.memory.downgrades").tag("reason", "budget").counter().count());
+
+        SolverOverloadedException exception = assertThrows(SolverOverloadedException.class,
+                () -> budget.reserve(TALL_GRID, scalarSolver));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        assertEquals(1.0, meterRegistry.get("dungeon.solver.rejections").tag("reason", "memory_budget").counter().count());
+
+        first.close();
+        second.close();
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(TALL_GRID, scalarSolver)) {
+            assertSame(scalarSolver, reservation.solver());
+        }
+    }
+
+    @Test
+    void reserve_JobWaitingForBudget_DoesNotBlockSmallerSolves() throws Exception {
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+        SolverMemoryBudget.Reservation held = budget.reserveCells(350);
+        Thread job = new Thread(() -> budget.reserveWaiting(TALL_GRID, scalarSolver).close());
+        job.start();
+        while (job.getState() != Thread.State.WAITING && job.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(DungeonGrid.of(new int[3][3]), scalarSolver)) {
+            assertSame(scalarSolver, reservation.solver());
+        }
+
+        held.close();
+        job.join(5_000);
+        assertFalse(job.isAlive());
+        assertEquals(0.0, reservedCells());
+    }
+
+    @Test
+    void reserve_Disabled_NeverRoutesOrReserves() {
+        properties.getMemory().setEnabled(false);
+        properties.getMemory().setLowMemoryThresholdCells(1);
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(TALL_GRID, scalarSolver)) {
+            assertSame(scalarSolver, reservation.solver());
+            assertEquals(0.0, reservedCells());
+        }
+    }
+
+    @Test
+    void reserve_PooledTables_ReservesRoundedSize() {
+        properties.getBuffers().setPooled(true);
+        properties.getMemory().setBudgetCells(2000);
+        ScalarDungeonSolver pooledSolver = new ScalarDungeonSolver(new DpBufferPool(properties, meterRegistry), meterRegistry);
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserve(TALL_GRID, pooledSolver)) {
+            assertSame(pooledSolver, reservation.solver());
+            assertEquals(1024.0, reservedCells());
+        }
+    }
+
+    @Test
+    void reserveCells_HeldUntilClosed_RejectsOverflowWith503() {
+        SolverMemoryBudget budget = new SolverMemoryBudget(lowMemorySolver, properties, meterRegistry);
+
+        try (SolverMemoryBudget.Reservation reservation = budget.reserveCells(300)) {
+            assertNull(reservation.solver());
+            assertEquals(300.0, reservedCells());
+            SolverOverloadedException exception = assertThrows(SolverOverloadedException.class,
+                    () -> budget.reserveCells(200));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exception.getStatus());
+        }
+        assertEquals(0.0, reservedCells());
+    }
+
+    private double reservedCells() {
+        return meterRegistry.get("dungeon.solver.memory.reserved.cells").gauge().value();
+    }
+}
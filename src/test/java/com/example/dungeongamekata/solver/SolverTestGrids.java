@@ -0,0 +1,31 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.dto.DungeonGrid;
+
+import java.util.Random;
+
+/**
+ * Seeded random grids for the solver tests, which compare each engine against the scalar one.
+ */
+final class SolverTestGrids {
+
+    private SolverTestGrids() {
+    }
+
+    /**
+     * A {@code rows x cols} grid of values drawn uniformly from {@code [min, max]}, row by row.
+     */
+    static int[][] randomCells(Random random, int rows, int cols, int min, int max) {
+        int[][] cells = new int[rows][cols];
+        for (int[] row : cells) {
+            for (int j = 0; j < cols; j++) {
+                row[j] = random.nextInt(max - min + 1) + min;
+            }
+        }
+        return cells;
+    }
+
+    static DungeonGrid randomDungeon(Random random, int rows, int cols, int min, int max) {
+        return DungeonGrid.of(randomCells(random, rows, cols, min, max));
+    }
+}
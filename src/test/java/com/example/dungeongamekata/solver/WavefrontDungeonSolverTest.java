@@ -0,0 +1,44 @@
+package com.example.dungeongamekata.solver;
+
+import com.example.dungeongamekata.config.SolverProperties;
+import com.example.dungeongamekata.dto.DungeonGrid;
+import com.example.dungeongamekata.dto.DungeonResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static com.example.dungeongamekata.solver.SolverTestGrids.randomDungeon;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WavefrontDungeonSolverTest {
+
+    // One pool for both engines, so tables are reused across grid sizes with stale contents
+    private final DpBufferPool buffers = new DpBufferPool(new SolverProperties(), new SimpleMeterRegistry());
+    private final ScalarDungeonSolver scalarSolver = new ScalarDungeonSolver(buffers, new SimpleMeterRegistry());
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 8, 64})
+    void solve_RandomGrids_MatchScalarSolver(int tileSize) {
+        SolverProperties properties = new SolverProperties();
+        properties.getParallel().setTileSize(tileSize);
+        properties.getParallel().setParallelism(4);
+        WavefrontDungeonSolver wavefrontSolver = new WavefrontDungeonSolver(buffers, properties, new SimpleMeterRegistry());
+
+        Random random = new Random(tileSize);
+        try {
+            for (int round = 0; round < 200; round++) {
+                DungeonGrid dungeon = randomDungeon(random, 1 + random.nextInt(70), 1 + random.nextInt(70), -25, 15);
+
+                DungeonResponse expected = scalarSolver.solve(dungeon);
+                DungeonResponse actual = wavefrontSolver.solve(dungeon);
+
+                assertEquals(expected.minimumHP(), actual.minimumHP());
+                assertArrayEquals(expected.path().toArray(new int[0][]), actual.path().toArray(new int[0][]));
+            }
+        } finally {
+            wavefrontSolver.shutdown();
+        }
+    }
+}